@@ -55,8 +55,16 @@ export const setPagination = (pagination) => ({
   payload: pagination,
 });
 
-const getClientsAPI = () => {
-  return apiClient.get("/api/client");
+const getClientsAPI = (filters, after, size) => {
+  return apiClient.get("/api/client", {
+    params: {
+      firstName: filters.firstName || undefined,
+      lastName: filters.lastName || undefined,
+      email: filters.email || undefined,
+      after: after || undefined,
+      size,
+    },
+  });
 };
 
 const getClientAPI = (id) => {
@@ -75,52 +83,39 @@ const deleteClientAPI = (id) => {
   return apiClient.delete(`/api/client/${id}`);
 };
 
-const applyFiltersAndPagination = (clients, filters, page, pageSize) => {
-  let filtered = [...clients];
+// Keyset pagination only moves forward, so remember the cursor that opens each
+// page for the current filters and page size.
+let pageCursors = { key: null, cursors: { 1: null } };
 
-  if (filters.firstName) {
-    filtered = filtered.filter((c) =>
-      c.firstName.toLowerCase().includes(filters.firstName.toLowerCase()),
-    );
+const getPageCursor = (filters, page, pageSize) => {
+  const key = JSON.stringify({ ...filters, pageSize });
+  if (pageCursors.key !== key) {
+    pageCursors = { key, cursors: { 1: null } };
   }
-
-  if (filters.lastName) {
-    filtered = filtered.filter((c) =>
-      c.lastName.toLowerCase().includes(filters.lastName.toLowerCase()),
-    );
-  }
-
-  if (filters.email) {
-    filtered = filtered.filter((c) =>
-      c.email.toLowerCase().includes(filters.email.toLowerCase()),
-    );
-  }
-
-  const total = filtered.length;
-  const start = (page - 1) * pageSize;
-  const paginatedData = filtered.slice(start, start + pageSize);
-
-  return {
-    data: paginatedData,
-    total,
-    page,
-    pageSize,
-    totalPages: Math.ceil(total / pageSize),
-  };
+  return page in pageCursors.cursors ? pageCursors.cursors[page] : undefined;
 };
 
 export const fetchClients =
   (filters = {}, page = 1, pageSize = 10) =>
   (dispatch) => {
     dispatch(requestClients());
-    return getClientsAPI()
-      .then((allClients) => {
-        const result = applyFiltersAndPagination(
-          allClients,
-          filters,
+    let cursor = getPageCursor(filters, page, pageSize);
+    if (cursor === undefined) {
+      page = 1;
+      cursor = null;
+    }
+    return getClientsAPI(filters, cursor, pageSize)
+      .then(({ list, nextCursor }) => {
+        if (nextCursor) {
+          pageCursors.cursors[page + 1] = nextCursor;
+        }
+        const result = {
+          data: list,
+          total: (page - 1) * pageSize + list.length,
           page,
           pageSize,
-        );
+          totalPages: nextCursor ? page + 1 : page,
+        };
         dispatch(receiveClients(result));
         return result;
       })
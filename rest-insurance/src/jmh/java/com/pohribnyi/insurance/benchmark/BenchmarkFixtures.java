@@ -0,0 +1,45 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.util.id.UuidV7;
+
+final class BenchmarkFixtures {
+
+	private BenchmarkFixtures() {
+	}
+
+	static Client client(int index) {
+		return Client.builder()
+				.id(UuidV7.randomUuid())
+				.firstName("First" + index)
+				.lastName("Last" + index)
+				.email("client" + index + "@example.com")
+				.version(0L)
+				.build();
+	}
+
+	static InsurancePolicy policy(int index, Client client) {
+		return InsurancePolicy.builder()
+				.id(UuidV7.randomUuid())
+				.policyNumber("POL-%08d".formatted(index))
+				.policyType(index % 2 == 0 ? "Health" : "Auto")
+				.startDate(LocalDate.of(2026, 1, 1).plusDays(index % 365))
+				.endDate(LocalDate.of(2027, 1, 1).plusDays(index % 365))
+				.coveredRisks(List.of("Medical", "Dental", "Collision"))
+				.version(0L)
+				.client(client)
+				.build();
+	}
+
+	static List<InsurancePolicy> policies(int count) {
+		return IntStream.range(0, count)
+				.mapToObj(i -> policy(i, client(i % 50)))
+				.toList();
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.service.ReportService;
+
+/**
+ * Scores are per CSV row: one invocation renders {@value #ROWS} policies.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CsvReportBenchmark {
+
+	private static final int ROWS = 1000;
+
+	private final ReportService reportService = new ReportService(null);
+
+	private List<InsurancePolicy> policies;
+
+	@Setup
+	public void setUp() {
+		policies = BenchmarkFixtures.policies(ROWS);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public byte[] renderCsv() throws IOException {
+		return reportService.renderCsv(policies);
+	}
+
+}
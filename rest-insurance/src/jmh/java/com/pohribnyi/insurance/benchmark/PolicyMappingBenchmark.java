@@ -0,0 +1,39 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PolicyMappingBenchmark {
+
+	private InsurancePolicy policy;
+
+	@Setup
+	public void setUp() {
+		policy = BenchmarkFixtures.policy(1, BenchmarkFixtures.client(1));
+	}
+
+	@Benchmark
+	public InsurancePolicyResponseDTO fullResponse() {
+		return InsurancePolicyResponseDTO.fromEntity(policy);
+	}
+
+	@Benchmark
+	public PolicySummaryResponseDTO summary() {
+		return PolicySummaryResponseDTO.fromEntity(policy);
+	}
+
+}
@@ -0,0 +1,86 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.InsurancePolicySpecification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Builds the criteria predicate for a fully populated filter, as Spring Data does for every
+ * {@code _list} request. The session factory is bootstrapped without touching a database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PolicySpecificationBenchmark {
+
+	private StandardServiceRegistry registry;
+	private SessionFactory sessionFactory;
+	private CriteriaBuilder cb;
+
+	private PolicyPageableRequestDTO allFilters;
+	private PolicyPageableRequestDTO noFilters;
+
+	@Setup
+	public void setUp() {
+		registry = new StandardServiceRegistryBuilder()
+				.applySettings(Map.of(
+						AvailableSettings.DIALECT, PostgreSQLDialect.class.getName(),
+						"hibernate.boot.allow_jdbc_metadata_access", "false"))
+				.build();
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClasses(Client.class, InsurancePolicy.class)
+				.buildMetadata()
+				.buildSessionFactory();
+		cb = sessionFactory.getCriteriaBuilder();
+		allFilters = new PolicyPageableRequestDTO(UUID.randomUUID(), "Health", "POL-00000001", "Medical", false, 0, 20);
+		noFilters = new PolicyPageableRequestDTO(null, null, null, null, null, 0, 20);
+	}
+
+	@TearDown
+	public void tearDown() {
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy(registry);
+	}
+
+	@Benchmark
+	public Predicate allFilters() {
+		return toPredicate(allFilters);
+	}
+
+	@Benchmark
+	public Predicate noFilters() {
+		return toPredicate(noFilters);
+	}
+
+	private Predicate toPredicate(PolicyPageableRequestDTO request) {
+		CriteriaQuery<InsurancePolicy> query = cb.createQuery(InsurancePolicy.class);
+		Root<InsurancePolicy> root = query.from(InsurancePolicy.class);
+		return InsurancePolicySpecification.withFilters(request).toPredicate(root, query, cb);
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RequestValidationBenchmark {
+
+	private ValidatorFactory validatorFactory;
+	private Validator validator;
+
+	private CreateInsurancePolicyRequestDTO valid;
+	private CreateInsurancePolicyRequestDTO invalid;
+
+	@Setup
+	public void setUp() {
+		validatorFactory = Validation.buildDefaultValidatorFactory();
+		validator = validatorFactory.getValidator();
+		valid = new CreateInsurancePolicyRequestDTO("POL-00000001", "Health", LocalDate.now().plusDays(1),
+				LocalDate.now().plusYears(1), List.of("Medical", "Dental"), UUID.randomUUID());
+		invalid = new CreateInsurancePolicyRequestDTO(" ", "Health", LocalDate.now().minusDays(1),
+				LocalDate.now().minusDays(1), List.of(""), null);
+	}
+
+	@TearDown
+	public void tearDown() {
+		validatorFactory.close();
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<CreateInsurancePolicyRequestDTO>> validRequest() {
+		return validator.validate(valid);
+	}
+
+	@Benchmark
+	public Set<ConstraintViolation<CreateInsurancePolicyRequestDTO>> invalidRequest() {
+		return validator.validate(invalid);
+	}
+
+}
@@ -0,0 +1,106 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pohribnyi.insurance.dto.response.client.ClientPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+
+/**
+ * JSON vs Smile vs CBOR for a 100-row {@code _list} page and client page, configured like the
+ * HTTP message converters. Each benchmark also reports the size of the payload it writes or
+ * reads as a {@code bytes} secondary result, next to its time in the JMH results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SerializationFormatBenchmark {
+
+	private static final int ROWS = 100;
+
+	@Param({ "json", "smile", "cbor" })
+	private String format;
+
+	private ObjectMapper objectMapper;
+	private PolicyPageableResponseDTO policies;
+	private ClientPageableResponseDTO clients;
+	private byte[] policiesPayload;
+	private byte[] clientsPayload;
+
+	@Setup
+	public void setUp() throws IOException {
+		objectMapper = switch (format) {
+			case "smile" -> new ObjectMapper(SmileFactory.builder()
+					.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+					.build())
+					.enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+			case "cbor" -> new ObjectMapper(new CBORFactory()).enable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+			default -> new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+		};
+		objectMapper.registerModule(new JavaTimeModule());
+
+		policies = new PolicyPageableResponseDTO(BenchmarkFixtures.policies(ROWS).stream()
+				.map(PolicySummaryResponseDTO::fromEntity)
+				.toList(), 10);
+		clients = new ClientPageableResponseDTO(BenchmarkFixtures.policies(ROWS).stream()
+				.map(policy -> ClientResponseDTO.fromEntity(policy.getClient()))
+				.toList(), null);
+		policiesPayload = objectMapper.writeValueAsBytes(policies);
+		clientsPayload = objectMapper.writeValueAsBytes(clients);
+	}
+
+	@Benchmark
+	public byte[] writePolicies(PayloadSize size) throws IOException {
+		byte[] payload = objectMapper.writeValueAsBytes(policies);
+		size.bytes = payload.length;
+		return payload;
+	}
+
+	@Benchmark
+	public PolicyPageableResponseDTO readPolicies(PayloadSize size) throws IOException {
+		size.bytes = policiesPayload.length;
+		return objectMapper.readValue(policiesPayload, PolicyPageableResponseDTO.class);
+	}
+
+	@Benchmark
+	public byte[] writeClients(PayloadSize size) throws IOException {
+		byte[] payload = objectMapper.writeValueAsBytes(clients);
+		size.bytes = payload.length;
+		return payload;
+	}
+
+	@Benchmark
+	public List<ClientResponseDTO> readClients(PayloadSize size) throws IOException {
+		size.bytes = clientsPayload.length;
+		return objectMapper.readValue(clientsPayload, ClientPageableResponseDTO.class).list();
+	}
+
+	// Assigned rather than accumulated, so the reported value is the size of a single payload
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class PayloadSize {
+
+		public long bytes;
+
+	}
+
+}
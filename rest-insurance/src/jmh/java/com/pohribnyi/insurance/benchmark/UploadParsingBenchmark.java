@@ -0,0 +1,43 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+
+/**
+ * Parses the bundled {@code upload/import.json} the same way {@code UploadService} does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UploadParsingBenchmark {
+
+	private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+	private byte[] payload;
+
+	@Setup
+	public void setUp() throws IOException {
+		try (InputStream in = UploadParsingBenchmark.class.getResourceAsStream("/upload/import.json")) {
+			payload = in.readAllBytes();
+		}
+	}
+
+	@Benchmark
+	public CreateInsurancePolicyRequestDTO[] parseUpload() throws IOException {
+		return objectMapper.readValue(payload, CreateInsurancePolicyRequestDTO[].class);
+	}
+
+}
@@ -1,13 +1,34 @@
 package com.pohribnyi.insurance;
 
+import java.util.Arrays;
+
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
 @SpringBootApplication
 public class ProfITsoftInsuranceRestApplication {
 
+	private static final String MIGRATE_ARG = "--migrate";
+
 	public static void main(String[] args) {
+		if (Arrays.asList(args).contains(MIGRATE_ARG)) {
+			String[] springArgs = Arrays.stream(args)
+					.filter(arg -> !MIGRATE_ARG.equals(arg))
+					.toArray(String[]::new);
+			System.exit(migrate(springArgs));
+		}
 		SpringApplication.run(ProfITsoftInsuranceRestApplication.class, args);
 	}
 
+	// Liquibase applies the changelog while the context starts, so closing it right away is the whole job.
+	// AOT is switched off for this run: its bean set was fixed at build time for the web application.
+	static int migrate(String[] args) {
+		System.setProperty("spring.aot.enabled", "false");
+		SpringApplication application = new SpringApplication(ProfITsoftInsuranceRestApplication.class);
+		application.setWebApplicationType(WebApplicationType.NONE);
+		application.setAdditionalProfiles("migrate");
+		return SpringApplication.exit(application.run(args));
+	}
+
 }
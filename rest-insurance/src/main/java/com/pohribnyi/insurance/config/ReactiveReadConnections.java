@@ -0,0 +1,68 @@
+package com.pohribnyi.insurance.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * R2DBC connections for the non-blocking read endpoints, derived from the JDBC datasource
+ * settings. Deliberately not exposed as a {@code ConnectionFactory} bean: that would make
+ * Spring Boot back off from the JDBC DataSource the JPA write path depends on.
+ */
+@Component
+public class ReactiveReadConnections implements DisposableBean {
+
+	private final LoopResources loopResources;
+	private final ConnectionPool pool;
+	private final DatabaseClient databaseClient;
+
+	public ReactiveReadConnections(DataSourceProperties dataSourceProperties,
+			@Value("${app.r2dbc.event-loop-threads:4}") int eventLoopThreads,
+			@Value("${app.r2dbc.pool.max-size:20}") int maxSize,
+			@Value("${app.r2dbc.pool.max-idle-time:30m}") Duration maxIdleTime) {
+		ConnectionFactoryOptions options = ConnectionFactoryOptions
+				.parse(dataSourceProperties.determineUrl().replaceFirst("^jdbc:", "r2dbc:"));
+		this.loopResources = LoopResources.create("r2dbc-read", eventLoopThreads, true);
+
+		PostgresqlConnectionFactory connectionFactory = new PostgresqlConnectionFactory(
+				PostgresqlConnectionConfiguration.builder()
+						.host((String) options.getRequiredValue(ConnectionFactoryOptions.HOST))
+						.port(options.hasOption(ConnectionFactoryOptions.PORT)
+								? (Integer) options.getValue(ConnectionFactoryOptions.PORT)
+								: 5432)
+						.database((String) options.getValue(ConnectionFactoryOptions.DATABASE))
+						.username(dataSourceProperties.determineUsername())
+						.password(dataSourceProperties.determinePassword())
+						.loopResources(loopResources)
+						.build());
+
+		this.pool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+				.name("r2dbc-read")
+				.maxSize(maxSize)
+				.maxIdleTime(maxIdleTime)
+				.build());
+		this.databaseClient = DatabaseClient.create(pool);
+	}
+
+	public DatabaseClient databaseClient() {
+		return databaseClient;
+	}
+
+	@Override
+	public void destroy() {
+		pool.dispose();
+		loopResources.dispose();
+	}
+
+}
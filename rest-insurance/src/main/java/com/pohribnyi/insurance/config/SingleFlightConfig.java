@@ -0,0 +1,32 @@
+package com.pohribnyi.insurance.config;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.util.concurrent.SingleFlight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class SingleFlightConfig {
+
+	@Value("${app.single-flight.follower-timeout:5s}")
+	private Duration followerTimeout;
+
+	@Bean
+	public SingleFlight<UUID, InsurancePolicyResponseDTO> policyLookups(MeterRegistry meterRegistry) {
+		return new SingleFlight<>("policy", followerTimeout, meterRegistry);
+	}
+
+	@Bean
+	public SingleFlight<UUID, ClientResponseDTO> clientLookups(MeterRegistry meterRegistry) {
+		return new SingleFlight<>("client", followerTimeout, meterRegistry);
+	}
+
+}
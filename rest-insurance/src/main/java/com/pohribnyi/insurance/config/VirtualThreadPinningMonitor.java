@@ -0,0 +1,77 @@
+package com.pohribnyi.insurance.config;
+
+import java.time.Duration;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reports virtual threads pinned to their carrier (blocking inside synchronized code or
+ * native frames) for longer than the threshold, using the in-process JFR event stream.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+	private static final int LOGGED_FRAMES = 8;
+
+	private final Duration threshold;
+	private final Timer pinned;
+	private RecordingStream stream;
+
+	public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+			@Value("${app.virtual-threads.pinning-threshold:20ms}") Duration threshold) {
+		this.threshold = threshold;
+		this.pinned = Timer.builder("app.virtual-threads.pinned")
+				.description("Time virtual threads spent pinned to their carrier thread")
+				.register(meterRegistry);
+	}
+
+	@Override
+	public void start() {
+		stream = new RecordingStream();
+		stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+		stream.onEvent(PINNED_EVENT, this::onPinned);
+		stream.startAsync();
+		log.info("Watching for virtual threads pinned longer than {}", threshold);
+	}
+
+	@Override
+	public void stop() {
+		stream.close();
+		stream = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return stream != null;
+	}
+
+	private void onPinned(RecordedEvent event) {
+		pinned.record(event.getDuration());
+		String frames = event.getStackTrace() == null ? "<no stack trace>"
+				: event.getStackTrace().getFrames().stream()
+						.limit(LOGGED_FRAMES)
+						.map(VirtualThreadPinningMonitor::describe)
+						.collect(Collectors.joining("\n\tat ", "\n\tat ", ""));
+		log.warn("Virtual thread pinned for {} ms{}", event.getDuration().toMillis(), frames);
+	}
+
+	private static String describe(RecordedFrame frame) {
+		return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+	}
+
+}
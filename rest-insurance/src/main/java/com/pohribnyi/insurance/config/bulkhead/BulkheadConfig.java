@@ -0,0 +1,54 @@
+package com.pohribnyi.insurance.config.bulkhead;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.pohribnyi.insurance.util.concurrent.Bulkhead;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Gives reports, uploads, streams and the interactive CRUD endpoints separate concurrency limits,
+ * so a burst of heavy jobs queues behind its own limit instead of taking every pooled connection.
+ * A stream holds its permit until the last row is written, which can take far longer than the
+ * interactive wait budget, so it gets its own class. The reactive read path runs on its own
+ * connection pool and is left out.
+ */
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(BulkheadProperties.class)
+public class BulkheadConfig implements WebMvcConfigurer {
+
+	private static final String[] REPORT_PATHS = { "/api/insurance_policy/_report" };
+	private static final String[] UPLOAD_PATHS = { "/api/insurance_policy/upload", "/api/insurance_policy/_bulk",
+			"/api/insurance_policy/by-number" };
+	private static final String[] STREAM_PATHS = { "/api/client/stream" };
+
+	private final BulkheadProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		registry.addInterceptor(interceptor("report", properties.report()))
+				.addPathPatterns(REPORT_PATHS);
+		registry.addInterceptor(interceptor("upload", properties.upload()))
+				.addPathPatterns(UPLOAD_PATHS);
+		registry.addInterceptor(interceptor("stream", properties.stream()))
+				.addPathPatterns(STREAM_PATHS);
+		registry.addInterceptor(interceptor("interactive", properties.interactive()))
+				.addPathPatterns("/api/**")
+				.excludePathPatterns(REPORT_PATHS)
+				.excludePathPatterns(UPLOAD_PATHS)
+				.excludePathPatterns(STREAM_PATHS)
+				.excludePathPatterns("/api/reactive/**");
+	}
+
+	private BulkheadInterceptor interceptor(String name, BulkheadProperties.Limits limits) {
+		return new BulkheadInterceptor(new Bulkhead(name, limits.maxConcurrent(), limits.maxQueued(),
+				limits.maxWait(), limits.retryAfter(), meterRegistry));
+	}
+
+}
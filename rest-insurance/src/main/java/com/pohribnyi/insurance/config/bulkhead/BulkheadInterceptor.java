@@ -0,0 +1,41 @@
+package com.pohribnyi.insurance.config.bulkhead;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.pohribnyi.insurance.util.concurrent.Bulkhead;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Holds a bulkhead permit from the start of the handler until the request completes. Streaming
+ * responses are dispatched a second time, so the permit is kept in a request attribute and only
+ * acquired once and released once.
+ */
+@RequiredArgsConstructor
+public class BulkheadInterceptor implements HandlerInterceptor {
+
+	private static final String PERMIT_ATTRIBUTE = BulkheadInterceptor.class.getName() + ".permit";
+
+	private final Bulkhead bulkhead;
+
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		if (request.getAttribute(PERMIT_ATTRIBUTE) == null) {
+			bulkhead.acquire();
+			request.setAttribute(PERMIT_ATTRIBUTE, bulkhead);
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+			Exception ex) {
+		if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+			request.removeAttribute(PERMIT_ATTRIBUTE);
+			bulkhead.release();
+		}
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.pohribnyi.insurance.config.bulkhead;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.bulkhead")
+public record BulkheadProperties(
+		@DefaultValue Limits interactive,
+		@DefaultValue Limits report,
+		@DefaultValue Limits upload,
+		@DefaultValue Limits stream) {
+
+	public record Limits(
+			@DefaultValue("20") int maxConcurrent,
+			@DefaultValue("50") int maxQueued,
+			@DefaultValue("1s") Duration maxWait,
+			@DefaultValue("5s") Duration retryAfter) {
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.pohribnyi.insurance.config.datasource;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+		dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+		return dataSource;
+	}
+
+	@Bean(destroyMethod = "close")
+	public ReplicaLagMonitor replicaLagMonitor(ReplicaDataSourceProperties properties, MeterRegistry meterRegistry) {
+		Map<String, DataSource> replicas = new LinkedHashMap<>();
+		for (ReplicaDataSourceProperties.Pool pool : properties.pools()) {
+			HikariConfig config = new HikariConfig();
+			config.setPoolName(pool.name());
+			config.setJdbcUrl(pool.url());
+			config.setUsername(pool.username());
+			config.setPassword(pool.password());
+			config.setMaximumPoolSize(pool.maximumPoolSize());
+			config.setReadOnly(true);
+			// A replica that is down at startup is simply treated as lagging
+			config.setInitializationFailTimeout(-1);
+			config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+			replicas.put(pool.name(), new HikariDataSource(config));
+		}
+		return new ReplicaLagMonitor(replicas, properties.maxLag(), meterRegistry);
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaLagMonitor replicaLagMonitor,
+			MeterRegistry meterRegistry) {
+		ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(primaryDataSource, replicaLagMonitor,
+				meterRegistry);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.pohribnyi.insurance.config.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public record ReplicaDataSourceProperties(
+		@DefaultValue("false") boolean enabled,
+		@DefaultValue("5s") Duration maxLag,
+		@DefaultValue List<Pool> pools) {
+
+	public record Pool(
+			String name,
+			String url,
+			String username,
+			String password,
+			@DefaultValue("10") int maximumPoolSize) {
+	}
+
+}
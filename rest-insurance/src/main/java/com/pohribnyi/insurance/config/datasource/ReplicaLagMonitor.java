@@ -0,0 +1,95 @@
+package com.pohribnyi.insurance.config.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+	// Zero while the replica has replayed everything it received, so an idle primary does not look like lag.
+	// That only holds while the WAL receiver is streaming: a replica cut off from the primary has nothing
+	// left to replay either, so without a streaming receiver the lag is reported as unknown (NULL)
+	private static final String LAG_QUERY = """
+			SELECT CASE
+			    WHEN NOT pg_is_in_recovery() THEN 0
+			    WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver WHERE status = 'streaming') THEN NULL
+			    WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+			    ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0)
+			END
+			""";
+
+	private final Map<String, DataSource> replicas;
+	private final Duration maxLag;
+	private final Map<String, Long> lagMillis = new ConcurrentHashMap<>();
+
+	public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag, MeterRegistry meterRegistry) {
+		this.replicas = replicas;
+		this.maxLag = maxLag;
+		replicas.keySet().forEach(name -> {
+			lagMillis.put(name, Long.MAX_VALUE);
+			Gauge.builder("app.datasource.replica.lag", lagMillis, lags -> lags.getOrDefault(name, -1L))
+					.description("Replication lag of the replica in milliseconds, Long.MAX_VALUE when unreachable")
+					.baseUnit("milliseconds")
+					.tag("pool", name)
+					.register(meterRegistry);
+		});
+	}
+
+	public Map<String, DataSource> getReplicas() {
+		return replicas;
+	}
+
+	public boolean isHealthy(String replica) {
+		return lagMillis.getOrDefault(replica, Long.MAX_VALUE) <= maxLag.toMillis();
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval:5000}")
+	public void checkLag() {
+		replicas.forEach((name, dataSource) -> {
+			try (Connection connection = dataSource.getConnection();
+					Statement statement = connection.createStatement();
+					ResultSet rs = statement.executeQuery(LAG_QUERY)) {
+				rs.next();
+				long lag = rs.getLong(1);
+				if (rs.wasNull()) {
+					lagMillis.put(name, Long.MAX_VALUE);
+					log.warn("Replica {} is not streaming from the primary, routing its reads to the primary", name);
+					return;
+				}
+				lagMillis.put(name, lag);
+				if (lag > maxLag.toMillis()) {
+					log.warn("Replica {} is {} ms behind, routing its reads to the primary", name, lag);
+				}
+			} catch (Exception e) {
+				lagMillis.put(name, Long.MAX_VALUE);
+				log.warn("Replica {} is unreachable, routing its reads to the primary: {}", name, e.getMessage());
+			}
+		});
+	}
+
+	@Override
+	public void close() {
+		replicas.values().forEach(dataSource -> {
+			if (dataSource instanceof AutoCloseable closeable) {
+				try {
+					closeable.close();
+				} catch (Exception e) {
+					log.warn("Failed to close replica pool: {}", e.getMessage());
+				}
+			}
+		});
+	}
+
+}
@@ -0,0 +1,76 @@
+package com.pohribnyi.insurance.config.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Sends connections of read-only transactions to a healthy replica, round robin,
+ * and everything else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so
+ * the read-only flag is already set when the connection is fetched.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	static final String PRIMARY = "primary";
+
+	private final List<String> replicas;
+	private final ReplicaLagMonitor lagMonitor;
+	private final AtomicInteger nextReplica = new AtomicInteger();
+	private final Map<String, Counter> routedConnections;
+	private final Counter fallbackConnections;
+
+	public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor, MeterRegistry meterRegistry) {
+		this.replicas = List.copyOf(lagMonitor.getReplicas().keySet());
+		this.lagMonitor = lagMonitor;
+
+		Map<Object, Object> targets = new HashMap<>(lagMonitor.getReplicas());
+		targets.put(PRIMARY, primary);
+		setTargetDataSources(targets);
+		setDefaultTargetDataSource(primary);
+
+		Map<String, Counter> counters = new HashMap<>();
+		targets.keySet().forEach(pool -> counters.put((String) pool, Counter.builder("app.datasource.routing")
+				.description("Connections routed to each datasource pool")
+				.tag("pool", (String) pool)
+				.register(meterRegistry)));
+		this.routedConnections = Map.copyOf(counters);
+		this.fallbackConnections = Counter.builder("app.datasource.routing.fallback")
+				.description("Read-only connections sent to the primary because no replica was healthy")
+				.register(meterRegistry);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		String target = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? pickReplica() : PRIMARY;
+		routedConnections.get(target).increment();
+		return target;
+	}
+
+	private String pickReplica() {
+		int size = replicas.size();
+		if (size == 0) {
+			fallbackConnections.increment();
+			return PRIMARY;
+		}
+		int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+		for (int i = 0; i < size; i++) {
+			String replica = replicas.get((start + i) % size);
+			if (lagMonitor.isHealthy(replica)) {
+				return replica;
+			}
+		}
+		fallbackConnections.increment();
+		return PRIMARY;
+	}
+
+}
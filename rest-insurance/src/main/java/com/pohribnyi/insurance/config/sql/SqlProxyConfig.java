@@ -0,0 +1,68 @@
+package com.pohribnyi.insurance.config.sql;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application {@code dataSource} (the plain Hikari pool, or the replica routing
+ * proxy when replicas are enabled) in a datasource-proxy that fingerprints and times every
+ * statement. Replaces Hibernate's {@code show-sql}, which logged and formatted every statement.
+ * Any other {@link QueryExecutionListener} bean is attached to the same proxy.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql.proxy.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProxyConfig {
+
+	private static final String DATA_SOURCE_BEAN = "dataSource";
+
+	@Bean
+	public SqlStatistics sqlStatistics(MeterRegistry meterRegistry,
+			@Value("${app.sql.proxy.max-fingerprints:200}") int maxFingerprints) {
+		return new SqlStatistics(meterRegistry, maxFingerprints);
+	}
+
+	@Bean
+	public SqlStatementListener sqlStatementListener(SqlStatistics sqlStatistics,
+			@Value("${app.sql.proxy.slow-threshold:200ms}") Duration slowThreshold,
+			@Value("${app.sql.proxy.sample-rate:0}") double sampleRate,
+			@Value("${app.sql.proxy.redact-binds:true}") boolean redactBinds) {
+		return new SqlStatementListener(sqlStatistics, slowThreshold, sampleRate, redactBinds);
+	}
+
+	@Bean
+	public SqlStatisticsEndpoint sqlStatisticsEndpoint(SqlStatistics sqlStatistics) {
+		return new SqlStatisticsEndpoint(sqlStatistics);
+	}
+
+	@Bean
+	public static BeanPostProcessor sqlProxyDataSourcePostProcessor(ObjectProvider<QueryExecutionListener> listeners) {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!DATA_SOURCE_BEAN.equals(beanName) || !(bean instanceof DataSource dataSource)
+						|| bean instanceof ProxyDataSource) {
+					return bean;
+				}
+				ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(DATA_SOURCE_BEAN);
+				listeners.orderedStream().forEach(builder::listener);
+				return builder.build();
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,110 @@
+package com.pohribnyi.insurance.config.sql;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.pohribnyi.insurance.util.sql.SqlFingerprint;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Feeds every executed statement into {@link SqlStatistics} and logs only the ones slower than
+ * the threshold, plus a random sample of the rest. Logged SQL is the fingerprint and bind values
+ * are reduced to their types unless redaction is switched off.
+ */
+@Slf4j
+public class SqlStatementListener implements QueryExecutionListener {
+
+	private static final String START_NANOS = SqlStatementListener.class.getName() + ".start";
+	private static final int MAX_CACHED_FINGERPRINTS = 2048;
+
+	private final SqlStatistics sqlStatistics;
+	private final Duration slowThreshold;
+	private final double sampleRate;
+	private final boolean redactBinds;
+	// Hibernate reuses a small set of SQL strings, so the regex work is done once per string
+	private final Map<String, String> fingerprints = new ConcurrentHashMap<>();
+
+	public SqlStatementListener(SqlStatistics sqlStatistics, Duration slowThreshold, double sampleRate,
+			boolean redactBinds) {
+		this.sqlStatistics = sqlStatistics;
+		this.slowThreshold = slowThreshold;
+		this.sampleRate = sampleRate;
+		this.redactBinds = redactBinds;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		// ExecutionInfo only carries millisecond timings, too coarse for most statements
+		execInfo.addCustomValue(START_NANOS, System.nanoTime());
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		if (queryInfoList.isEmpty()) {
+			return;
+		}
+		Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+		long totalNanos = start != null ? System.nanoTime() - start
+				: TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+		long elapsedNanos = totalNanos / queryInfoList.size();
+		boolean slow = totalNanos >= slowThreshold.toNanos();
+		boolean sampled = !slow && sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate;
+
+		for (QueryInfo queryInfo : queryInfoList) {
+			String fingerprint = fingerprint(queryInfo.getQuery());
+			sqlStatistics.record(fingerprint, elapsedNanos);
+			if (slow) {
+				log.warn("Slow SQL [{}] {} ms{}: {} binds={}", SqlFingerprint.id(fingerprint),
+						TimeUnit.NANOSECONDS.toMillis(totalNanos), batchSuffix(execInfo), fingerprint, binds(queryInfo));
+			} else if (sampled) {
+				log.info("Sampled SQL [{}] {} ms{}: {} binds={}", SqlFingerprint.id(fingerprint),
+						TimeUnit.NANOSECONDS.toMillis(totalNanos), batchSuffix(execInfo), fingerprint, binds(queryInfo));
+			}
+		}
+	}
+
+	private String fingerprint(String sql) {
+		String fingerprint = fingerprints.get(sql);
+		if (fingerprint == null) {
+			fingerprint = SqlFingerprint.of(sql);
+			if (fingerprints.size() < MAX_CACHED_FINGERPRINTS) {
+				fingerprints.put(sql, fingerprint);
+			}
+		}
+		return fingerprint;
+	}
+
+	private static String batchSuffix(ExecutionInfo execInfo) {
+		return execInfo.isBatch() ? " (batch of " + execInfo.getBatchSize() + ")" : "";
+	}
+
+	private String binds(QueryInfo queryInfo) {
+		List<List<ParameterSetOperation>> parameterSets = queryInfo.getParametersList();
+		if (parameterSets.isEmpty()) {
+			return "[]";
+		}
+		String first = parameterSets.get(0).stream()
+				.map(this::describe)
+				.collect(Collectors.joining(", ", "[", "]"));
+		return parameterSets.size() == 1 ? first : first + " (+" + (parameterSets.size() - 1) + " more)";
+	}
+
+	private String describe(ParameterSetOperation operation) {
+		Object[] args = operation.getArgs();
+		if ("setNull".equals(operation.getMethod().getName()) || args.length < 2 || args[1] == null) {
+			return "null";
+		}
+		return redactBinds ? args[1].getClass().getSimpleName() : String.valueOf(args[1]);
+	}
+
+}
@@ -0,0 +1,99 @@
+package com.pohribnyi.insurance.config.sql;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.pohribnyi.insurance.util.sql.SqlFingerprint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per-fingerprint execution counts and latencies. The number of tracked fingerprints is
+ * capped so that ad-hoc statements cannot grow the map or the meter registry without bound;
+ * anything past the cap is accounted under {@link #OVERFLOW}.
+ */
+public class SqlStatistics {
+
+	static final String OVERFLOW = "other";
+
+	private final MeterRegistry meterRegistry;
+	private final int maxFingerprints;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	public SqlStatistics(MeterRegistry meterRegistry, int maxFingerprints) {
+		this.meterRegistry = meterRegistry;
+		this.maxFingerprints = maxFingerprints;
+	}
+
+	public void record(String fingerprint, long elapsedNanos) {
+		Entry entry = entries.get(fingerprint);
+		if (entry == null) {
+			String key = entries.size() < maxFingerprints ? fingerprint : OVERFLOW;
+			entry = entries.computeIfAbsent(key, this::newEntry);
+		}
+		entry.record(elapsedNanos);
+	}
+
+	public List<FingerprintStats> top(int limit) {
+		return entries.values().stream()
+				.map(Entry::snapshot)
+				.sorted(Comparator.comparingDouble(FingerprintStats::totalMillis).reversed())
+				.limit(limit)
+				.toList();
+	}
+
+	private Entry newEntry(String fingerprint) {
+		String id = OVERFLOW.equals(fingerprint) ? OVERFLOW : SqlFingerprint.id(fingerprint);
+		Timer timer = Timer.builder("app.sql.statements")
+				.description("JDBC statement execution time by SQL fingerprint")
+				.tag("fingerprint", id)
+				.publishPercentileHistogram()
+				.minimumExpectedValue(Duration.ofMillis(1))
+				.maximumExpectedValue(Duration.ofSeconds(10))
+				.register(meterRegistry);
+		return new Entry(id, fingerprint, timer);
+	}
+
+	public record FingerprintStats(String id, String fingerprint, long count, double totalMillis, double meanMillis,
+			double maxMillis) {
+	}
+
+	private static final class Entry {
+
+		private final String id;
+		private final String fingerprint;
+		private final Timer timer;
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+		private Entry(String id, String fingerprint, Timer timer) {
+			this.id = id;
+			this.fingerprint = fingerprint;
+			this.timer = timer;
+		}
+
+		private void record(long elapsedNanos) {
+			count.increment();
+			totalNanos.add(elapsedNanos);
+			maxNanos.accumulate(elapsedNanos);
+			timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+		}
+
+		private FingerprintStats snapshot() {
+			long executions = count.sum();
+			double totalMillis = totalNanos.sum() / 1_000_000.0;
+			return new FingerprintStats(id, fingerprint, executions, totalMillis,
+					executions == 0 ? 0 : totalMillis / executions, maxNanos.get() / 1_000_000.0);
+		}
+
+	}
+
+}
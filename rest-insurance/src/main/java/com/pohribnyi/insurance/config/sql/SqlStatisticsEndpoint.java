@@ -0,0 +1,30 @@
+package com.pohribnyi.insurance.config.sql;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import com.pohribnyi.insurance.config.sql.SqlStatistics.FingerprintStats;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code /actuator/sqlstats?limit=N}: the statement fingerprints that consumed the most total
+ * database time since startup.
+ */
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class SqlStatisticsEndpoint {
+
+	private static final int DEFAULT_LIMIT = 20;
+
+	private final SqlStatistics sqlStatistics;
+
+	@ReadOperation
+	public List<FingerprintStats> top(@Nullable Integer limit) {
+		return sqlStatistics.top(limit == null || limit <= 0 ? DEFAULT_LIMIT : limit);
+	}
+
+}
@@ -1,9 +1,9 @@
 package com.pohribnyi.insurance.controller;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,12 +11,20 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.pohribnyi.insurance.dto.request.ClientPageableRequestDTO;
 import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientDetailsResponseDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientPurgeJobResponseDTO;
 import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.service.ClientPurgeService;
 import com.pohribnyi.insurance.service.ClientService;
+import com.pohribnyi.insurance.service.IdempotencyService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -27,21 +35,40 @@ import lombok.RequiredArgsConstructor;
 public class ClientController {
 
     private final ClientService clientService;
+    private final ClientPurgeService clientPurgeService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
-    public ResponseEntity<List<ClientResponseDTO>> getAllClients() {
-        return ResponseEntity.ok(clientService.getAllClients());
+    public ResponseEntity<ClientPageableResponseDTO> getClients(@Valid ClientPageableRequestDTO request) {
+        return ResponseEntity.ok(clientService.getClients(request));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamClients(@Valid ClientPageableRequestDTO request) {
+        StreamingResponseBody body = out -> clientService.streamClients(request, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<ClientResponseDTO> getClientById(@PathVariable("id") UUID id) {
-        return ResponseEntity.ok(ClientResponseDTO.fromEntity(clientService.getClientEntity(id)));
+        return ResponseEntity.ok(clientService.getClientById(id));
+    }
+
+    @GetMapping(value = "/{id}", params = "include=policies")
+    public ResponseEntity<ClientDetailsResponseDTO> getClientWithPolicies(@PathVariable("id") UUID id) {
+        return ResponseEntity.ok(clientService.getClientWithPolicies(id));
     }
 
     @PostMapping
-    public ResponseEntity<ClientResponseDTO> createClient(@Valid @RequestBody ClientRequestDTO request) {
-        ClientResponseDTO response = clientService.createClient(request);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    public ResponseEntity<ClientResponseDTO> createClient(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody ClientRequestDTO request) {
+        return idempotencyService.execute("client", idempotencyKey, request, () -> {
+            ClientResponseDTO response = clientService.createClient(request);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        });
     }
 
     @PutMapping("/{id}")
@@ -56,4 +83,15 @@ public class ClientController {
         clientService.deleteClient(id);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/{id}/_purge")
+    public ResponseEntity<ClientPurgeJobResponseDTO> purgeClient(@PathVariable("id") UUID id) {
+        ClientPurgeJobResponseDTO response = clientPurgeService.startPurge(id);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+
+    @GetMapping("/_purge/{jobId}")
+    public ResponseEntity<ClientPurgeJobResponseDTO> getPurgeJob(@PathVariable("jobId") UUID jobId) {
+        return ResponseEntity.ok(clientPurgeService.getPurgeJob(jobId));
+    }
 }
\ No newline at end of file
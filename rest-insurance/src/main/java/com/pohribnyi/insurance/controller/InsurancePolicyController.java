@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -21,14 +22,24 @@ import org.springframework.web.multipart.MultipartFile;
 import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
 import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.bulk.BulkPolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.bulk.PolicyUpsertBatchRequestDTO;
 import com.pohribnyi.insurance.dto.response.UploadResponseDTO;
+import com.pohribnyi.insurance.dto.response.bulk.BulkPolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.bulk.PolicyUpsertBatchResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.service.BulkPolicyService;
+import com.pohribnyi.insurance.service.IdempotencyService;
+import com.pohribnyi.insurance.model.enums.UpsertOutcome;
 import com.pohribnyi.insurance.service.InsurancePolicyService;
+import com.pohribnyi.insurance.service.PolicyUpsertService;
 import com.pohribnyi.insurance.service.ReportService;
 import com.pohribnyi.insurance.service.UploadService;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -39,12 +50,18 @@ public class InsurancePolicyController {
 	private final InsurancePolicyService policyService;
 	private final ReportService reportService;
 	private final UploadService uploadService;
+	private final BulkPolicyService bulkPolicyService;
+	private final IdempotencyService idempotencyService;
+	private final PolicyUpsertService policyUpsertService;
 
 	@PostMapping
 	public ResponseEntity<InsurancePolicyResponseDTO> createPolicy(
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
 			@Valid @RequestBody CreateInsurancePolicyRequestDTO request) {
-		InsurancePolicyResponseDTO response = policyService.createPolicy(request);
-		return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		return idempotencyService.execute("policy", idempotencyKey, request, () -> {
+			InsurancePolicyResponseDTO response = policyService.createPolicy(request);
+			return ResponseEntity.status(HttpStatus.CREATED).body(response);
+		});
 	}
 
 	@GetMapping("/{id}")
@@ -60,6 +77,25 @@ public class InsurancePolicyController {
 		return ResponseEntity.ok(response);
 	}
 
+	@PutMapping("/by-number/{policyNumber}")
+	public ResponseEntity<InsurancePolicyResponseDTO> upsertPolicy(
+			@PathVariable("policyNumber") 
+			@NotBlank(message = "Policy number is required") 
+			@Size(max = 100, message = "Policy number should not exceed 100 characters") 
+			String policyNumber,
+			@Valid @RequestBody UpdateInsurancePolicyRequestDTO request) {
+		PolicyUpsertService.UpsertedPolicy upserted = policyUpsertService.upsertPolicy(policyNumber, request);
+		HttpStatus status = upserted.outcome() == UpsertOutcome.CREATED ? HttpStatus.CREATED : HttpStatus.OK;
+		return ResponseEntity.status(status).body(upserted.policy());
+	}
+
+	@PutMapping("/by-number")
+	public ResponseEntity<PolicyUpsertBatchResponseDTO> upsertPolicies(
+			@Valid @RequestBody PolicyUpsertBatchRequestDTO request) {
+		PolicyUpsertBatchResponseDTO response = policyUpsertService.upsertPolicies(request);
+		return ResponseEntity.ok(response);
+	}
+
 	@DeleteMapping("/{id}")
 	public ResponseEntity<Void> deletePolicy(@PathVariable("id") UUID id) {
 		policyService.deletePolicy(id);
@@ -83,6 +119,12 @@ public class InsurancePolicyController {
 		return ResponseEntity.ok().headers(headers).body(report);
 	}
 
+	@PostMapping("/_bulk")
+	public ResponseEntity<BulkPolicyResponseDTO> bulkPolicies(@Valid @RequestBody BulkPolicyRequestDTO request) {
+		BulkPolicyResponseDTO response = bulkPolicyService.executeBulk(request);
+		return ResponseEntity.ok(response);
+	}
+
 	@PostMapping("/upload")
 	public ResponseEntity<UploadResponseDTO> uploadPolicies(@RequestParam("file") MultipartFile file)
 			throws IOException {
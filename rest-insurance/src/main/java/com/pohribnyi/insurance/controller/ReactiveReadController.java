@@ -0,0 +1,55 @@
+package com.pohribnyi.insurance.controller;
+
+import java.util.UUID;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.pohribnyi.insurance.dto.request.ClientPageableRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.service.ReactiveReadService;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only mirror of the policy and client lookups served over R2DBC. The request thread
+ * is released while the query runs on the R2DBC event loop.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@RequiredArgsConstructor
+public class ReactiveReadController {
+
+	private final ReactiveReadService readService;
+
+	@GetMapping("/insurance_policy/{id}")
+	public Mono<InsurancePolicyResponseDTO> getPolicyById(@PathVariable("id") UUID id) {
+		return readService.getPolicyById(id);
+	}
+
+	@PostMapping("/insurance_policy/_list")
+	public Mono<PolicyPageableResponseDTO> listPolicies(@Valid @RequestBody PolicyPageableRequestDTO request) {
+		return readService.getPolicies(request);
+	}
+
+	@GetMapping("/client")
+	public Mono<ClientPageableResponseDTO> getClients(@Valid ClientPageableRequestDTO request) {
+		return readService.getClients(request);
+	}
+
+	@GetMapping("/client/{id}")
+	public Mono<ClientResponseDTO> getClientById(@PathVariable("id") UUID id) {
+		return readService.getClientById(id);
+	}
+
+}
@@ -0,0 +1,11 @@
+package com.pohribnyi.insurance.dto.event;
+
+import com.pohribnyi.insurance.model.entity.Client;
+
+public record ClientEventDataDTO(String firstName, String lastName, String email) {
+
+	public static ClientEventDataDTO fromEntity(Client client) {
+		return new ClientEventDataDTO(client.getFirstName(), client.getLastName(), client.getEmail());
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.pohribnyi.insurance.dto.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.enums.DomainEventType;
+
+/**
+ * Change event keyed by aggregate id. {@code version} grows with every change of the
+ * aggregate, so consumers can drop stale or duplicated events. {@code data} is the new
+ * state, or null when the aggregate was deleted.
+ */
+public record DomainEventDTO(
+		DomainEventType type, 
+		UUID id, 
+		long version, 
+		Instant occurredAt, 
+		Object data) {
+}
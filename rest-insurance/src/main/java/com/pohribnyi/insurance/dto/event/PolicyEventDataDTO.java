@@ -0,0 +1,27 @@
+package com.pohribnyi.insurance.dto.event;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+
+public record PolicyEventDataDTO(
+		String policyNumber, 
+		String policyType, 
+		LocalDate startDate, 
+		LocalDate endDate,
+		List<String> coveredRisks, 
+		UUID clientId) {
+
+	public static PolicyEventDataDTO fromEntity(InsurancePolicy policy) {
+		return new PolicyEventDataDTO(
+				policy.getPolicyNumber(), 
+				policy.getPolicyType(), 
+				policy.getStartDate(),
+				policy.getEndDate(), 
+				policy.getCoveredRisks(), 
+				policy.getClient().getId());
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.pohribnyi.insurance.dto.request;
+
+import java.util.UUID;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+
+public record ClientPageableRequestDTO(
+		String firstName,
+		String lastName,
+		String email,
+		UUID after,
+
+		@Positive(message = "Size must be positive")
+		@Max(value = 500, message = "Size should not exceed 500")
+		Integer size) {
+
+	public ClientPageableRequestDTO {
+		if (size == null)
+			size = 20;
+	}
+
+}
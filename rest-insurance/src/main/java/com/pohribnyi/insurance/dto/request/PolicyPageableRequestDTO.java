@@ -9,6 +9,8 @@ public record PolicyPageableRequestDTO(
 		UUID clientId,
 		String policyType, 
 		String policyNumber,
+		String coveredRisk,
+		Boolean includeArchived,
 
 		@Min(value = 0, message = "Page should be non-negative") 
 		Integer page,
@@ -21,6 +23,8 @@ public record PolicyPageableRequestDTO(
 			page = 0;
 		if (size == null)
 			size = 20;
+		if (includeArchived == null)
+			includeArchived = false;
 	}
 	
 }
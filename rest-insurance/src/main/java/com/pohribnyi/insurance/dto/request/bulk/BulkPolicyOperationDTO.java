@@ -0,0 +1,14 @@
+package com.pohribnyi.insurance.dto.request.bulk;
+
+import java.util.UUID;
+
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.model.enums.BulkOperationType;
+
+public record BulkPolicyOperationDTO(
+		BulkOperationType operation, 
+		UUID id, 
+		CreateInsurancePolicyRequestDTO create,
+		UpdateInsurancePolicyRequestDTO update) {
+}
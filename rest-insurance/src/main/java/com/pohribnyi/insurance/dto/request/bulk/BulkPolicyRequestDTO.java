@@ -0,0 +1,14 @@
+package com.pohribnyi.insurance.dto.request.bulk;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record BulkPolicyRequestDTO(
+
+		@NotEmpty(message = "At least one operation is required") 
+		@Size(max = 1000, message = "Bulk request should not exceed 1000 operations") 
+		List<@NotNull(message = "Operation cannot be null") BulkPolicyOperationDTO> operations) {
+}
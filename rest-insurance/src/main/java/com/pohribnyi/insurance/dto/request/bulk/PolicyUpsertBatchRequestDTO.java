@@ -0,0 +1,17 @@
+package com.pohribnyi.insurance.dto.request.bulk;
+
+import java.util.List;
+
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record PolicyUpsertBatchRequestDTO(
+
+		@NotEmpty(message = "At least one policy is required") 
+		@Size(max = 1000, message = "Upsert request should not exceed 1000 policies") 
+		List<@Valid @NotNull(message = "Policy cannot be null") CreateInsurancePolicyRequestDTO> policies) {
+}
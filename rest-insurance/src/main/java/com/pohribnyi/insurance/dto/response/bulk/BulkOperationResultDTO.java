@@ -0,0 +1,13 @@
+package com.pohribnyi.insurance.dto.response.bulk;
+
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.enums.BulkOperationType;
+
+public record BulkOperationResultDTO(
+		int index, 
+		BulkOperationType operation, 
+		UUID id, 
+		int status, 
+		String error) {
+}
@@ -0,0 +1,6 @@
+package com.pohribnyi.insurance.dto.response.bulk;
+
+import java.util.List;
+
+public record BulkPolicyResponseDTO(int successCount, int failureCount, List<BulkOperationResultDTO> results) {
+}
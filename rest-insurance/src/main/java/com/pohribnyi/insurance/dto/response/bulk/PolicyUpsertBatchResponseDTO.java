@@ -0,0 +1,10 @@
+package com.pohribnyi.insurance.dto.response.bulk;
+
+import java.util.List;
+
+public record PolicyUpsertBatchResponseDTO(
+		int createdCount, 
+		int updatedCount, 
+		int unchangedCount, 
+		List<PolicyUpsertResultDTO> results) {
+}
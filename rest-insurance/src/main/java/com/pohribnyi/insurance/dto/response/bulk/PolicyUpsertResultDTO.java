@@ -0,0 +1,12 @@
+package com.pohribnyi.insurance.dto.response.bulk;
+
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.enums.UpsertOutcome;
+
+public record PolicyUpsertResultDTO(
+		String policyNumber, 
+		UUID id, 
+		long version, 
+		UpsertOutcome outcome) {
+}
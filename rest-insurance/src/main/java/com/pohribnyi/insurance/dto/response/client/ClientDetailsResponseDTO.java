@@ -0,0 +1,28 @@
+package com.pohribnyi.insurance.dto.response.client;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.dto.response.insurancePolicy.ClientPolicyResponseDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+
+public record ClientDetailsResponseDTO(
+		UUID id, 
+		String firstName, 
+		String lastName, 
+		String email,
+		List<ClientPolicyResponseDTO> policies) {
+
+	public static ClientDetailsResponseDTO fromEntity(Client client, List<InsurancePolicy> policies) {
+		return new ClientDetailsResponseDTO(
+				client.getId(), 
+				client.getFirstName(),
+				client.getLastName(),
+				client.getEmail(),
+				policies.stream()
+						.map(ClientPolicyResponseDTO::fromEntity)
+						.toList());
+	}
+
+}
@@ -0,0 +1,7 @@
+package com.pohribnyi.insurance.dto.response.client;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ClientPageableResponseDTO(List<ClientResponseDTO> list, UUID nextCursor) {
+}
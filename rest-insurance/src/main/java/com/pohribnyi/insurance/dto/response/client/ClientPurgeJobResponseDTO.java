@@ -0,0 +1,31 @@
+package com.pohribnyi.insurance.dto.response.client;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.entity.ClientPurgeJob;
+import com.pohribnyi.insurance.model.enums.PurgeJobStatus;
+
+public record ClientPurgeJobResponseDTO(
+		UUID id, 
+		UUID clientId, 
+		PurgeJobStatus status, 
+		long totalPolicies, 
+		long deletedPolicies,
+		String errorMessage, 
+		LocalDateTime createdAt, 
+		LocalDateTime updatedAt) {
+
+	public static ClientPurgeJobResponseDTO fromEntity(ClientPurgeJob job) {
+		return new ClientPurgeJobResponseDTO(
+				job.getId(), 
+				job.getClientId(), 
+				job.getStatus(), 
+				job.getTotalPolicies(),
+				job.getDeletedPolicies(), 
+				job.getErrorMessage(), 
+				job.getCreatedAt(), 
+				job.getUpdatedAt());
+	}
+
+}
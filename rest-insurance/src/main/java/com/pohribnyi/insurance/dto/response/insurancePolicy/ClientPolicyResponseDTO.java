@@ -0,0 +1,27 @@
+package com.pohribnyi.insurance.dto.response.insurancePolicy;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+
+public record ClientPolicyResponseDTO(
+		UUID id, 
+		String policyNumber, 
+		String policyType, 
+		LocalDate startDate,
+		LocalDate endDate, 
+		List<String> coveredRisks) {
+
+	public static ClientPolicyResponseDTO fromEntity(InsurancePolicy policy) {
+		return new ClientPolicyResponseDTO(
+				policy.getId(), 
+				policy.getPolicyNumber(), 
+				policy.getPolicyType(),
+				policy.getStartDate(), 
+				policy.getEndDate(), 
+				policy.getCoveredRisks());
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.pohribnyi.insurance.messaging;
+
+import com.pohribnyi.insurance.dto.event.ClientEventDataDTO;
+import com.pohribnyi.insurance.dto.event.DomainEventDTO;
+import com.pohribnyi.insurance.dto.event.PolicyEventDataDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.enums.DomainEventType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Queues domain change events in the outbox, keyed by aggregate id. Versions come from
+ * the entities' optimistic-lock version, so updates must be flushed before publishing.
+ * A deleted aggregate gets the version after its last one.
+ */
+@Service
+@RequiredArgsConstructor
+public class DomainEventPublisher {
+
+    @Value("${kafka.topic.domainEventTopic}")
+    private String domainEventTopic;
+
+    private final OutboxWriter outboxWriter;
+
+    public void policyCreated(InsurancePolicy policy) {
+        publish(DomainEventType.POLICY_CREATED, policy.getId(), policy.getVersion(),
+                PolicyEventDataDTO.fromEntity(policy));
+    }
+
+    public void policyUpdated(InsurancePolicy policy) {
+        publish(DomainEventType.POLICY_UPDATED, policy.getId(), policy.getVersion(),
+                PolicyEventDataDTO.fromEntity(policy));
+    }
+
+    public void policyDeleted(UUID id, long lastVersion) {
+        publish(DomainEventType.POLICY_DELETED, id, lastVersion + 1, null);
+    }
+
+    public void clientChanged(Client client) {
+        publish(DomainEventType.CLIENT_CHANGED, client.getId(), client.getVersion(),
+                ClientEventDataDTO.fromEntity(client));
+    }
+
+    // The client's policies are removed first, each with its own POLICY_DELETED event
+    public void clientDeleted(UUID id, long lastVersion) {
+        publish(DomainEventType.CLIENT_CHANGED, id, lastVersion + 1, null);
+    }
+
+    private void publish(DomainEventType type, UUID id, long version, Object data) {
+        outboxWriter.enqueue(domainEventTopic, id.toString(),
+                new DomainEventDTO(type, id, version, Instant.now(), data));
+    }
+
+}
@@ -2,29 +2,41 @@ package com.pohribnyi.insurance.messaging;
 
 import com.pohribnyi.insurance.dto.message.EmailMessageDTO;
 import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.repository.ExpiringPolicyView;
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Queues email notifications in the outbox as part of the caller's transaction,
+ * keyed by recipient.
+ */
 @Service
 @RequiredArgsConstructor
-@Slf4j
 public class EmailNotificationProducer {
 
     @Value("${kafka.topic.emailNotifTopic}")
     private String emailNotifTopic;
 
-    private final KafkaOperations<String, EmailMessageDTO> kafkaOperations;
+    private final OutboxWriter outboxWriter;
 
+    @Transactional(propagation = Propagation.MANDATORY)
     public void sendWelcomeNotification(Client client) {
-        EmailMessageDTO message = createWelcomeEmailMessage(client);
-        try {
-            kafkaOperations.send(emailNotifTopic, message);
-        } catch (Exception e) {
-            log.error("Failed to send email notification", e);
-        }
+        enqueue(createWelcomeEmailMessage(client));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void sendPolicyExpiryReminder(List<ExpiringPolicyView> clientPolicies) {
+        enqueue(createExpiryReminderMessage(clientPolicies));
+    }
+
+    private void enqueue(EmailMessageDTO message) {
+        outboxWriter.enqueue(emailNotifTopic, message.recipient(), message);
     }
 
     private EmailMessageDTO createWelcomeEmailMessage(Client client) {
@@ -39,4 +51,22 @@ public class EmailNotificationProducer {
                 content);
     }
 
+    private EmailMessageDTO createExpiryReminderMessage(List<ExpiringPolicyView> clientPolicies) {
+        ExpiringPolicyView client = clientPolicies.get(0);
+        String subject = "Your insurance policies expire soon";
+        String policies = clientPolicies.stream()
+                .map(policy -> String.format("- %s (%s), expires on %s",
+                        policy.getPolicyNumber(), policy.getPolicyType(), policy.getEndDate()))
+                .collect(Collectors.joining("\n"));
+        String content = String.format("""
+                Greeting, %s %s !
+                The following policies are about to expire:
+                %s""",
+                client.getFirstName(), client.getLastName(), policies);
+        return new EmailMessageDTO(
+                client.getEmail(),
+                subject,
+                content);
+    }
+
 }
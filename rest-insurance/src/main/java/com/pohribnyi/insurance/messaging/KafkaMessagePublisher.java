@@ -0,0 +1,104 @@
+package com.pohribnyi.insurance.messaging;
+
+import com.pohribnyi.insurance.util.exception.PublishBackpressureException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyed, non-blocking publishing to Kafka. Delivery is reported through the returned
+ * future and recorded as per-topic metrics. The number of unacknowledged sends is capped
+ * so a slow broker pushes back on the caller instead of filling the producer buffer.
+ */
+@Component
+@Slf4j
+public class KafkaMessagePublisher {
+
+    private final KafkaOperations<String, Object> kafkaOperations;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore inFlight;
+    private final Duration acquireTimeout;
+    private final Map<String, Timer> latencyByTopic = new ConcurrentHashMap<>();
+
+    public KafkaMessagePublisher(KafkaOperations<String, Object> kafkaOperations,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.kafka.publisher.max-in-flight:1000}") int maxInFlight,
+                                 @Value("${app.kafka.publisher.acquire-timeout:100ms}") Duration acquireTimeout) {
+        this.kafkaOperations = kafkaOperations;
+        this.meterRegistry = meterRegistry;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.acquireTimeout = acquireTimeout;
+        Gauge.builder("app.kafka.publish.in-flight", inFlight, semaphore -> maxInFlight - semaphore.availablePermits())
+                .description("Sends waiting for a broker acknowledgement")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<SendResult<String, Object>> publish(String topic, String key, Object message) {
+        if (!acquirePermit()) {
+            result(topic, "rejected").increment();
+            return CompletableFuture.failedFuture(
+                    new PublishBackpressureException("Too many messages in flight to " + topic + ", try again later"));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<SendResult<String, Object>> send;
+        try {
+            send = kafkaOperations.send(topic, key, message);
+        } catch (RuntimeException e) {
+            inFlight.release();
+            result(topic, "failure").increment();
+            return CompletableFuture.failedFuture(e);
+        }
+
+        return send.whenComplete((sendResult, error) -> {
+            inFlight.release();
+            latency(topic).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (error == null) {
+                result(topic, "success").increment();
+            } else {
+                result(topic, "failure").increment();
+                log.warn("Failed to publish message with key {} to {}: {}", key, topic, error.getMessage());
+            }
+        });
+    }
+
+    // Runs on the producer I/O thread for every acknowledgement, so the histogram timer is built once per topic
+    private Timer latency(String topic) {
+        return latencyByTopic.computeIfAbsent(topic, name -> Timer.builder("app.kafka.publish.latency")
+                .description("Time from send to broker acknowledgement")
+                .tag("topic", name)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private Counter result(String topic, String result) {
+        return Counter.builder("app.kafka.publish")
+                .description("Messages handed to the producer, by delivery result")
+                .tag("topic", topic)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private boolean acquirePermit() {
+        try {
+            return inFlight.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+package com.pohribnyi.insurance.messaging;
+
+import com.pohribnyi.insurance.model.entity.OutboxMessage;
+import com.pohribnyi.insurance.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes queued outbox messages to Kafka, oldest first, with their stored key.
+ * Only one instance relays at a time, guarded by a transaction-scoped advisory lock, and
+ * a message is sent only once the previous one with its key was acknowledged, so messages
+ * with the same key keep their order. Delivery is at least once.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(prefix = "app.outbox.relay", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final long RELAY_LOCK_ID = 0x656d61696c4f7574L;
+    private static final int MAX_ERROR_LENGTH = 1024;
+
+    private final OutboxRepository outboxRepository;
+    private final KafkaMessagePublisher publisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${app.outbox.relay.send-timeout:10s}")
+    private Duration sendTimeout;
+
+    @Value("${app.outbox.relay.max-backoff:5m}")
+    private Duration maxBackoff;
+
+    @Scheduled(fixedDelayString = "${app.outbox.relay.poll-interval:500}")
+    public void relay() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Integer published;
+        do {
+            published = transactionTemplate.execute(status -> relayBatch());
+        } while (published != null && published == batchSize);
+    }
+
+    private int relayBatch() {
+        if (!outboxRepository.tryAdvisoryXactLock(RELAY_LOCK_ID)) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxMessage> messages = outboxRepository.findDue(now, batchSize);
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, Deque<OutboxMessage>> byKey = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            byKey.computeIfAbsent(orderingKey(message), key -> new ArrayDeque<>()).add(message);
+        }
+
+        // Keys are sent side by side, but each key has one send in flight and stops at its first
+        // failure; what is left of it stays queued behind the retry, so Kafka never gets it early
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        List<OutboxMessage> published = new ArrayList<>(messages.size());
+        int failed = 0;
+        while (!byKey.isEmpty() && System.nanoTime() < deadline) {
+            List<OutboxMessage> heads = new ArrayList<>(byKey.size());
+            List<CompletableFuture<SendResult<String, Object>>> sends = new ArrayList<>(byKey.size());
+            for (Deque<OutboxMessage> queue : byKey.values()) {
+                OutboxMessage message = queue.peek();
+                heads.add(message);
+                sends.add(publisher.publish(message.getTopic(), message.getMessageKey(), message.getPayload()));
+            }
+
+            for (int i = 0; i < heads.size(); i++) {
+                OutboxMessage message = heads.get(i);
+                String key = orderingKey(message);
+                Exception error = await(sends.get(i), deadline);
+                if (error == null) {
+                    published.add(message);
+                    Deque<OutboxMessage> queue = byKey.get(key);
+                    queue.poll();
+                    if (queue.isEmpty()) {
+                        byKey.remove(key);
+                    }
+                } else {
+                    failed++;
+                    scheduleRetry(message, error, now);
+                    byKey.remove(key);
+                }
+            }
+        }
+        outboxRepository.deleteAllInBatch(published);
+
+        if (failed > 0) {
+            log.warn("Failed to publish {} outbox messages, will retry", failed);
+        }
+        return messages.size();
+    }
+
+    private static String orderingKey(OutboxMessage message) {
+        return message.getTopic() + '/' + message.getMessageKey();
+    }
+
+    private Exception await(CompletableFuture<SendResult<String, Object>> send, long deadline) {
+        try {
+            send.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return e;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private void scheduleRetry(OutboxMessage message, Exception error, LocalDateTime now) {
+        int attempts = message.getAttempts() + 1;
+        long backoffMillis = Math.min(maxBackoff.toMillis(), 1000L << Math.min(attempts, 20));
+        message.setAttempts(attempts);
+        message.setNextAttemptAt(now.plus(Duration.ofMillis(backoffMillis)));
+        String errorMessage = error.getClass().getSimpleName() + ": " + error.getMessage();
+        message.setLastError(errorMessage.length() > MAX_ERROR_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_LENGTH)
+                : errorMessage);
+    }
+
+}
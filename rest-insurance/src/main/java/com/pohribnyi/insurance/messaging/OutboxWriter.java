@@ -0,0 +1,39 @@
+package com.pohribnyi.insurance.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.model.entity.OutboxMessage;
+import com.pohribnyi.insurance.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stores a Kafka message in the outbox as part of the caller's transaction.
+ * {@link OutboxRelay} publishes it after commit.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxWriter {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String key, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(OutboxMessage.builder()
+                .topic(topic)
+                .messageKey(key)
+                .payload(objectMapper.valueToTree(payload))
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+        log.debug("Queued message with key {} for {}", key, topic);
+    }
+
+}
@@ -4,14 +4,15 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import com.pohribnyi.insurance.util.id.UuidV7Generator;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,7 +27,7 @@ import lombok.NoArgsConstructor;
 public class Client {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Generator
 	private UUID id;
 
 	private String firstName;
@@ -36,6 +37,9 @@ public class Client {
 	@Column(nullable = false, unique = true)
 	private String email;
 
+	@Version
+	private Long version;
+
 	@OneToMany(mappedBy = "client", cascade = CascadeType.ALL, orphanRemoval = true)
 	@Builder.Default
 	private List<InsurancePolicy> insurancePolicies = new ArrayList<>();
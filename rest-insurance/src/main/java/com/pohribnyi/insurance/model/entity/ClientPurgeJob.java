@@ -0,0 +1,52 @@
+package com.pohribnyi.insurance.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.enums.PurgeJobStatus;
+import com.pohribnyi.insurance.util.id.UuidV7Generator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "client_purge_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientPurgeJob {
+
+	@Id
+	@UuidV7Generator
+	private UUID id;
+
+	private UUID clientId;
+
+	@Enumerated(EnumType.STRING)
+	private PurgeJobStatus status;
+
+	private long totalPolicies;
+
+	private long deletedPolicies;
+
+	@Column(length = 1024)
+	private String errorMessage;
+
+	private LocalDateTime createdAt;
+
+	private LocalDateTime updatedAt;
+
+	private UUID ownerToken;
+
+	private LocalDateTime heartbeatAt;
+
+}
@@ -4,17 +4,19 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
-import jakarta.persistence.CollectionTable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.pohribnyi.insurance.util.id.UuidV7Generator;
+
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,7 +31,7 @@ import lombok.NoArgsConstructor;
 public class InsurancePolicy {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.UUID)
+	@UuidV7Generator
 	private UUID id;
 
 	private String policyNumber;
@@ -40,10 +42,17 @@ public class InsurancePolicy {
 
 	private LocalDate endDate;
 
-	@ElementCollection
-	@CollectionTable(name = "policy_covered_risks", joinColumns = @JoinColumn(name = "policy_id"))
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(name = "covered_risks", columnDefinition = "text[]", nullable = false)
 	private List<String> coveredRisks;
 
+	@Version
+	private Long version;
+
+	// Partition key: expired policies are moved to the archive partition by PolicyArchiveService
+	@Column(nullable = false)
+	private boolean archived;
+
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "client_id", nullable = false)
 	private Client client;
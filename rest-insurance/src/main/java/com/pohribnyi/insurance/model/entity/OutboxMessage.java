@@ -0,0 +1,51 @@
+package com.pohribnyi.insurance.model.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.pohribnyi.insurance.util.id.UuidV7Generator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_messages")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+
+	// Time-ordered, so ordering by id replays messages in the order they were written
+	@Id
+	@UuidV7Generator
+	private UUID id;
+
+	private String topic;
+
+	private String messageKey;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(columnDefinition = "jsonb")
+	private JsonNode payload;
+
+	private int attempts;
+
+	private LocalDateTime nextAttemptAt;
+
+	@Column(length = 1024)
+	private String lastError;
+
+	private LocalDateTime createdAt;
+
+}
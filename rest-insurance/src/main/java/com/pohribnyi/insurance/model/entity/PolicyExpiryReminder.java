@@ -0,0 +1,37 @@
+package com.pohribnyi.insurance.model.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.util.id.UuidV7Generator;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "policy_expiry_reminders")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PolicyExpiryReminder {
+
+	@Id
+	@UuidV7Generator
+	private UUID id;
+
+	private UUID policyId;
+
+	private LocalDate endDate;
+
+	private UUID clientId;
+
+	private LocalDateTime sentAt;
+
+}
@@ -0,0 +1,5 @@
+package com.pohribnyi.insurance.model.enums;
+
+public enum DomainEventType {
+	POLICY_CREATED, POLICY_UPDATED, POLICY_DELETED, CLIENT_CHANGED
+}
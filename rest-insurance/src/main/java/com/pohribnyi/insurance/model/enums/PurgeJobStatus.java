@@ -0,0 +1,9 @@
+package com.pohribnyi.insurance.model.enums;
+
+import java.util.Set;
+
+public enum PurgeJobStatus {
+	PENDING, RUNNING, COMPLETED, FAILED;
+
+	public static final Set<PurgeJobStatus> ACTIVE = Set.of(PENDING, RUNNING);
+}
@@ -0,0 +1,5 @@
+package com.pohribnyi.insurance.model.enums;
+
+public enum UpsertOutcome {
+	CREATED, UPDATED, UNCHANGED
+}
@@ -0,0 +1,65 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.pohribnyi.insurance.model.entity.ClientPurgeJob;
+import com.pohribnyi.insurance.model.enums.PurgeJobStatus;
+
+public interface ClientPurgeJobRepository extends JpaRepository<ClientPurgeJob, UUID> {
+
+	Optional<ClientPurgeJob> findFirstByClientIdAndStatusIn(UUID clientId, Collection<PurgeJobStatus> statuses);
+
+	// Writes on behalf of a worker match its owner token, so they find nothing once the job was taken over
+	@Modifying
+	@Query("""
+			update ClientPurgeJob j set j.status = :to, j.heartbeatAt = :now, j.updatedAt = :now
+			where j.id = :id and j.ownerToken = :token and j.status = :from
+			""")
+	int transition(@Param("id") UUID id, @Param("token") UUID token, @Param("from") PurgeJobStatus from,
+			@Param("to") PurgeJobStatus to, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("""
+			update ClientPurgeJob j
+			set j.deletedPolicies = j.deletedPolicies + :deleted, j.heartbeatAt = :now, j.updatedAt = :now
+			where j.id = :id and j.ownerToken = :token and j.status = :status
+			""")
+	int recordProgress(@Param("id") UUID id, @Param("token") UUID token, @Param("status") PurgeJobStatus status,
+			@Param("deleted") long deleted, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("""
+			update ClientPurgeJob j set j.status = :failed, j.errorMessage = :errorMessage, j.updatedAt = :now
+			where j.id = :id and j.ownerToken = :token and j.status in :active
+			""")
+	int fail(@Param("id") UUID id, @Param("token") UUID token, @Param("errorMessage") String errorMessage,
+			@Param("now") LocalDateTime now, @Param("failed") PurgeJobStatus failed,
+			@Param("active") Collection<PurgeJobStatus> active);
+
+	@Modifying
+	@Query("""
+			update ClientPurgeJob j set j.heartbeatAt = :now
+			where j.ownerToken in :tokens and j.status in :active
+			""")
+	int heartbeat(@Param("tokens") Collection<UUID> tokens, @Param("now") LocalDateTime now,
+			@Param("active") Collection<PurgeJobStatus> active);
+
+	// Only a job whose owner stopped heartbeating is failed; a heartbeat racing with this waits on the row lock
+	@Modifying
+	@Query("""
+			update ClientPurgeJob j set j.status = :failed, j.errorMessage = :errorMessage, j.updatedAt = :now
+			where j.id = :id and j.status in :active and j.heartbeatAt < :cutoff
+			""")
+	int abandonIfStale(@Param("id") UUID id, @Param("cutoff") LocalDateTime cutoff,
+			@Param("errorMessage") String errorMessage, @Param("now") LocalDateTime now,
+			@Param("failed") PurgeJobStatus failed, @Param("active") Collection<PurgeJobStatus> active);
+
+}
@@ -4,13 +4,25 @@ import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.pohribnyi.insurance.model.entity.Client;
 
-public interface ClientRepository extends JpaRepository<Client, UUID> {
+public interface ClientRepository
+		extends JpaRepository<Client, UUID>, JpaSpecificationExecutor<Client>, ClientRepositoryCustom {
 
 	boolean existsByEmail(String email);
 
 	Optional<Client> findByEmail(String email);
 
+	@Query("select c.version from Client c where c.id = :id")
+	Optional<Long> findVersionById(@Param("id") UUID id);
+
+	@Modifying
+	@Query("delete from Client c where c.id = :id")
+	int bulkDeleteById(@Param("id") UUID id);
+
 }
@@ -0,0 +1,14 @@
+package com.pohribnyi.insurance.repository;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+
+public interface ClientRepositoryCustom {
+
+	Stream<ClientResponseDTO> streamAll(Specification<Client> spec);
+
+}
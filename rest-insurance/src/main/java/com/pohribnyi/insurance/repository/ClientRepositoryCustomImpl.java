@@ -0,0 +1,46 @@
+package com.pohribnyi.insurance.repository;
+
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+public class ClientRepositoryCustomImpl implements ClientRepositoryCustom {
+
+	private static final int STREAM_FETCH_SIZE = 500;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// DTO projection keeps rows out of the persistence context; the fetch size makes
+	// the PostgreSQL driver walk a cursor. Must be consumed inside a transaction.
+	@Override
+	public Stream<ClientResponseDTO> streamAll(Specification<Client> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<ClientResponseDTO> query = cb.createQuery(ClientResponseDTO.class);
+		Root<Client> root = query.from(Client.class);
+
+		query.select(cb.construct(ClientResponseDTO.class,
+				root.get("id"),
+				root.get("firstName"),
+				root.get("lastName"),
+				root.get("email")));
+		query.where(spec.toPredicate(root, query, cb));
+		query.orderBy(cb.asc(root.get("id")));
+
+		return entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+
+}
@@ -0,0 +1,44 @@
+package com.pohribnyi.insurance.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.pohribnyi.insurance.dto.request.ClientPageableRequestDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+public class ClientSpecification {
+
+	public static Specification<Client> withFilters(ClientPageableRequestDTO request) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+
+			if (request.after() != null) {
+				predicates.add(cb.greaterThan(root.get("id"), request.after()));
+			}
+
+			if (request.firstName() != null && !request.firstName().isBlank()) {
+				predicates.add(containsIgnoreCase(cb, root.get("firstName"), request.firstName()));
+			}
+
+			if (request.lastName() != null && !request.lastName().isBlank()) {
+				predicates.add(containsIgnoreCase(cb, root.get("lastName"), request.lastName()));
+			}
+
+			if (request.email() != null && !request.email().isBlank()) {
+				predicates.add(containsIgnoreCase(cb, root.get("email"), request.email()));
+			}
+
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+
+	private static Predicate containsIgnoreCase(CriteriaBuilder cb, Expression<String> field, String value) {
+		return cb.like(cb.lower(field), "%" + value.trim().toLowerCase() + "%");
+	}
+}
@@ -0,0 +1,24 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface ExpiringPolicyView {
+
+	UUID getId();
+
+	String getPolicyNumber();
+
+	String getPolicyType();
+
+	LocalDate getEndDate();
+
+	UUID getClientId();
+
+	String getFirstName();
+
+	String getLastName();
+
+	String getEmail();
+
+}
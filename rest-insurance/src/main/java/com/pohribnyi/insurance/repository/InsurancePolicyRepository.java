@@ -1,5 +1,7 @@
 package com.pohribnyi.insurance.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -7,12 +9,16 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.Nullable;
 
 import com.pohribnyi.insurance.model.entity.InsurancePolicy;
 
 public interface InsurancePolicyRepository
-		extends JpaRepository<InsurancePolicy, UUID>, JpaSpecificationExecutor<InsurancePolicy> {
+		extends JpaRepository<InsurancePolicy, UUID>, JpaSpecificationExecutor<InsurancePolicy>,
+		InsurancePolicyRepositoryCustom {
 
 	@EntityGraph(attributePaths = { "client" })
 	List<InsurancePolicy> findAll();
@@ -22,4 +28,22 @@ public interface InsurancePolicyRepository
 	
 	boolean existsByPolicyNumber(String policyNumber);
 
+	@Query("select p.policyNumber from InsurancePolicy p where p.policyNumber in :policyNumbers")
+	List<String> findExistingPolicyNumbers(@Param("policyNumbers") Collection<String> policyNumbers);
+
+	List<InsurancePolicy> findAllByClientIdOrderByStartDateAscIdAsc(UUID clientId);
+
+	long countByClientId(UUID clientId);
+
+	@Modifying
+	@Query(value = """
+			UPDATE insurance_policies SET archived = TRUE, version = version + 1
+			WHERE archived = FALSE AND id IN (
+			    SELECT id FROM insurance_policies
+			    WHERE archived = FALSE AND end_date < :cutoff
+			    LIMIT :batchSize
+			    FOR UPDATE SKIP LOCKED)
+			""", nativeQuery = true)
+	int archiveBatchExpiredBefore(@Param("cutoff") LocalDate cutoff, @Param("batchSize") int batchSize);
+
 }
@@ -0,0 +1,26 @@
+package com.pohribnyi.insurance.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.enums.UpsertOutcome;
+
+public interface InsurancePolicyRepositoryCustom {
+
+	UpsertResult upsertByPolicyNumber(InsurancePolicy policy);
+
+	// Results come back in input order
+	List<UpsertResult> upsertAllByPolicyNumber(List<InsurancePolicy> policies);
+
+	List<DeletedPolicy> deleteAllByClientId(UUID clientId);
+
+	List<DeletedPolicy> deleteBatchByClientId(UUID clientId, int batchSize);
+
+	record UpsertResult(UUID id, long version, UpsertOutcome outcome) {
+	}
+
+	record DeletedPolicy(UUID id, long version) {
+	}
+
+}
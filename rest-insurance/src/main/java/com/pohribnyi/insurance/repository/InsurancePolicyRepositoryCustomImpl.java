@@ -0,0 +1,202 @@
+package com.pohribnyi.insurance.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.Session;
+
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.enums.UpsertOutcome;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+public class InsurancePolicyRepositoryCustomImpl implements InsurancePolicyRepositoryCustom {
+
+	// Postgres caps a statement at 65535 parameters; a row binds eight
+	private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+	private static final String UPSERT_ROW = "(CAST(? AS INT), CAST(? AS UUID), CAST(? AS VARCHAR), CAST(? AS VARCHAR), "
+			+ "CAST(? AS DATE), CAST(? AS DATE), CAST(? AS TEXT[]), CAST(? AS UUID))";
+
+	// One statement per batch. An archived policy holding the number is updated back into the active
+	// partition; every other row goes through INSERT ... ON CONFLICT on the active partition, where rows
+	// whose data did not change are left alone, keep their version and publish no event. Numbers stay
+	// unique across partitions through policy_numbers, so the two branches never both match a number.
+	private static final String UPSERT_SQL = """
+			WITH input (ord, id, policy_number, policy_type, start_date, end_date, covered_risks, client_id) AS (
+			    VALUES %s
+			),
+			unarchived AS (
+			    UPDATE insurance_policies p SET
+			        policy_type = i.policy_type,
+			        start_date = i.start_date,
+			        end_date = i.end_date,
+			        covered_risks = i.covered_risks,
+			        client_id = i.client_id,
+			        archived = FALSE,
+			        version = p.version + 1
+			    FROM input i
+			    WHERE p.policy_number = i.policy_number AND p.archived = TRUE
+			    RETURNING p.policy_number, p.id, p.version
+			),
+			upserted AS (
+			    INSERT INTO insurance_policies
+			        (id, policy_number, policy_type, start_date, end_date, covered_risks, client_id, archived, version)
+			    SELECT i.id, i.policy_number, i.policy_type, i.start_date, i.end_date, i.covered_risks, i.client_id,
+			        FALSE, 0
+			    FROM input i
+			    WHERE NOT EXISTS (SELECT 1 FROM unarchived u WHERE u.policy_number = i.policy_number)
+			    ON CONFLICT (policy_number, archived) DO UPDATE SET
+			        policy_type = EXCLUDED.policy_type,
+			        start_date = EXCLUDED.start_date,
+			        end_date = EXCLUDED.end_date,
+			        covered_risks = EXCLUDED.covered_risks,
+			        client_id = EXCLUDED.client_id,
+			        version = insurance_policies.version + 1
+			    WHERE (insurance_policies.policy_type, insurance_policies.start_date, insurance_policies.end_date,
+			           insurance_policies.covered_risks, insurance_policies.client_id)
+			        IS DISTINCT FROM (EXCLUDED.policy_type, EXCLUDED.start_date, EXCLUDED.end_date,
+			           EXCLUDED.covered_risks, EXCLUDED.client_id)
+			    RETURNING policy_number, id, version, xmax = 0 AS inserted
+			)
+			SELECT COALESCE(u.id, s.id, c.id) AS id,
+			       COALESCE(u.version, s.version, c.version) AS version,
+			       CASE WHEN s.inserted THEN 'CREATED'
+			            WHEN u.id IS NOT NULL OR s.id IS NOT NULL THEN 'UPDATED'
+			            ELSE 'UNCHANGED' END AS outcome,
+			       i.policy_number
+			FROM input i
+			LEFT JOIN unarchived u ON u.policy_number = i.policy_number
+			LEFT JOIN upserted s ON s.policy_number = i.policy_number
+			LEFT JOIN insurance_policies c ON c.policy_number = i.policy_number AND c.archived = FALSE
+			ORDER BY i.ord
+			""";
+
+	// Only needed when an unchanged row was committed by a concurrent upsert after this statement's snapshot:
+	// ON CONFLICT waited for it and locked it, but the final SELECT above cannot see it
+	private static final String CURRENT_SQL = """
+			SELECT id, version FROM insurance_policies WHERE policy_number = ? AND archived = FALSE
+			""";
+
+	// Deletes report the id and last version of each row, so a POLICY_DELETED event can follow for it
+	private static final String DELETE_ALL_BY_CLIENT_SQL = """
+			DELETE FROM insurance_policies WHERE client_id = ?
+			RETURNING id, version
+			""";
+
+	private static final String DELETE_BATCH_BY_CLIENT_SQL = """
+			DELETE FROM insurance_policies
+			WHERE id IN (SELECT id FROM insurance_policies WHERE client_id = ? LIMIT ?)
+			RETURNING id, version
+			""";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public UpsertResult upsertByPolicyNumber(InsurancePolicy policy) {
+		return upsertAllByPolicyNumber(List.of(policy)).get(0);
+	}
+
+	// A number repeated in the input starts a new statement, since ON CONFLICT cannot touch a row twice
+	@Override
+	public List<UpsertResult> upsertAllByPolicyNumber(List<InsurancePolicy> policies) {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			List<UpsertResult> results = new ArrayList<>(policies.size());
+			List<InsurancePolicy> chunk = new ArrayList<>();
+			Set<String> numbers = new HashSet<>();
+			for (InsurancePolicy policy : policies) {
+				if (chunk.size() == MAX_ROWS_PER_STATEMENT || !numbers.add(policy.getPolicyNumber())) {
+					results.addAll(upsert(connection, chunk));
+					chunk.clear();
+					numbers.clear();
+					numbers.add(policy.getPolicyNumber());
+				}
+				chunk.add(policy);
+			}
+			if (!chunk.isEmpty()) {
+				results.addAll(upsert(connection, chunk));
+			}
+			return results;
+		});
+	}
+
+	private List<UpsertResult> upsert(Connection connection, List<InsurancePolicy> policies) throws SQLException {
+		String rows = String.join(", ", Collections.nCopies(policies.size(), UPSERT_ROW));
+		List<UpsertResult> results = new ArrayList<>(policies.size());
+		try (PreparedStatement upsert = connection.prepareStatement(UPSERT_SQL.formatted(rows))) {
+			int index = 1;
+			for (int i = 0; i < policies.size(); i++) {
+				InsurancePolicy policy = policies.get(i);
+				upsert.setInt(index++, i);
+				upsert.setObject(index++, policy.getId());
+				upsert.setString(index++, policy.getPolicyNumber());
+				upsert.setString(index++, policy.getPolicyType());
+				upsert.setObject(index++, policy.getStartDate());
+				upsert.setObject(index++, policy.getEndDate());
+				upsert.setArray(index++, connection.createArrayOf("text", policy.getCoveredRisks().toArray()));
+				upsert.setObject(index++, policy.getClient().getId());
+			}
+			try (ResultSet rs = upsert.executeQuery()) {
+				while (rs.next()) {
+					UUID id = rs.getObject(1, UUID.class);
+					results.add(id != null
+							? new UpsertResult(id, rs.getLong(2), UpsertOutcome.valueOf(rs.getString(3)))
+							: current(connection, rs.getString(4)));
+				}
+			}
+		}
+		return results;
+	}
+
+	@Override
+	public List<DeletedPolicy> deleteAllByClientId(UUID clientId) {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement delete = connection.prepareStatement(DELETE_ALL_BY_CLIENT_SQL)) {
+				delete.setObject(1, clientId);
+				return deleted(delete);
+			}
+		});
+	}
+
+	@Override
+	public List<DeletedPolicy> deleteBatchByClientId(UUID clientId, int batchSize) {
+		return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+			try (PreparedStatement delete = connection.prepareStatement(DELETE_BATCH_BY_CLIENT_SQL)) {
+				delete.setObject(1, clientId);
+				delete.setInt(2, batchSize);
+				return deleted(delete);
+			}
+		});
+	}
+
+	private List<DeletedPolicy> deleted(PreparedStatement delete) throws SQLException {
+		List<DeletedPolicy> deleted = new ArrayList<>();
+		try (ResultSet rs = delete.executeQuery()) {
+			while (rs.next()) {
+				deleted.add(new DeletedPolicy(rs.getObject(1, UUID.class), rs.getLong(2)));
+			}
+		}
+		return deleted;
+	}
+
+	private UpsertResult current(Connection connection, String policyNumber) throws SQLException {
+		try (PreparedStatement select = connection.prepareStatement(CURRENT_SQL)) {
+			select.setString(1, policyNumber);
+			try (ResultSet rs = select.executeQuery()) {
+				rs.next();
+				return new UpsertResult(rs.getObject(1, UUID.class), rs.getLong(2), UpsertOutcome.UNCHANGED);
+			}
+		}
+	}
+
+}
@@ -16,6 +16,11 @@ public class InsurancePolicySpecification {
 		return (root, query, cb) -> {
 			List<Predicate> predicates = new ArrayList<>();
 
+			// Keeps the filter on the partition key so default lookups only touch the active partition
+			if (!request.includeArchived()) {
+				predicates.add(cb.isFalse(root.get("archived")));
+			}
+
 			if (request.clientId() != null) {
 				predicates.add(cb.equal(root.get("client").get("id"), request.clientId()));
 			}
@@ -28,6 +33,11 @@ public class InsurancePolicySpecification {
 				predicates.add(cb.equal(root.get("policyNumber"), request.policyNumber()));
 			}
 
+			if (request.coveredRisk() != null && !request.coveredRisk().isBlank()) {
+				predicates.add(cb.isTrue(cb.function(PostgresFunctionContributor.COVERS_RISK, Boolean.class,
+						root.get("coveredRisks"), cb.literal(request.coveredRisk()))));
+			}
+
 			return cb.and(predicates.toArray(new Predicate[0]));
 		};
 	}
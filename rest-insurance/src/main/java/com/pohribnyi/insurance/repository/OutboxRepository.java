@@ -0,0 +1,36 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.pohribnyi.insurance.model.entity.OutboxMessage;
+
+public interface OutboxRepository extends JpaRepository<OutboxMessage, UUID> {
+
+	@Query(value = "SELECT pg_try_advisory_xact_lock(:lockId)", nativeQuery = true)
+	boolean tryAdvisoryXactLock(@Param("lockId") long lockId);
+
+	// Messages queued behind a key that is waiting for a retry are held back; the relay sends the rest of a key
+	// one at a time, so per-key order holds
+	@Query(value = """
+			SELECT o.* FROM outbox_messages o
+			WHERE o.next_attempt_at <= :now
+			  AND NOT EXISTS (
+			      SELECT 1 FROM outbox_messages earlier
+			      WHERE earlier.topic = o.topic
+			        AND earlier.message_key = o.message_key
+			        AND earlier.id < o.id
+			        AND earlier.next_attempt_at > :now)
+			ORDER BY o.id
+			LIMIT :batchSize
+			""", nativeQuery = true)
+	List<OutboxMessage> findDue(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+
+	List<OutboxMessage> findAllByTopicAndMessageKeyOrderById(String topic, String messageKey);
+
+}
@@ -0,0 +1,48 @@
+package com.pohribnyi.insurance.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.pohribnyi.insurance.model.entity.PolicyExpiryReminder;
+
+public interface PolicyExpiryReminderRepository extends JpaRepository<PolicyExpiryReminder, UUID> {
+
+	// Pages by client, returning every due policy of the next clients, so a client's reminder is never split
+	// across pages. Rows locked by another instance are skipped, so concurrent runs split the work between them
+	@Query(value = """
+			WITH next_clients AS (
+			    SELECT DISTINCT p.client_id
+			    FROM insurance_policies p
+			    WHERE p.archived = FALSE
+			      AND p.end_date BETWEEN :from AND :to
+			      AND p.client_id > :afterClientId
+			      AND NOT EXISTS (
+			          SELECT 1 FROM policy_expiry_reminders r
+			          WHERE r.policy_id = p.id AND r.end_date = p.end_date)
+			    ORDER BY p.client_id
+			    LIMIT :clientLimit
+			)
+			SELECT p.id AS "id", p.policy_number AS "policyNumber", p.policy_type AS "policyType",
+			       p.end_date AS "endDate", c.id AS "clientId", c.first_name AS "firstName",
+			       c.last_name AS "lastName", c.email AS "email"
+			FROM insurance_policies p
+			JOIN clients c ON c.id = p.client_id
+			WHERE p.client_id IN (SELECT client_id FROM next_clients)
+			  AND p.archived = FALSE
+			  AND p.end_date BETWEEN :from AND :to
+			  AND NOT EXISTS (
+			      SELECT 1 FROM policy_expiry_reminders r
+			      WHERE r.policy_id = p.id AND r.end_date = p.end_date)
+			ORDER BY p.client_id, p.end_date, p.id
+			FOR UPDATE OF p SKIP LOCKED
+			""", nativeQuery = true)
+	List<ExpiringPolicyView> lockUnremindedExpiringPoliciesOfNextClients(@Param("from") LocalDate from,
+			@Param("to") LocalDate to, @Param("afterClientId") UUID afterClientId,
+			@Param("clientLimit") int clientLimit);
+
+}
@@ -0,0 +1,21 @@
+package com.pohribnyi.insurance.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+public class PostgresFunctionContributor implements FunctionContributor {
+
+	public static final String COVERS_RISK = "covers_risk";
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		// Renders as array containment so the GIN index on covered_risks is used
+		functionContributions.getFunctionRegistry().registerPattern(
+				COVERS_RISK,
+				"(?1 @> array[cast(?2 as text)])",
+				functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+						.resolve(StandardBasicTypes.BOOLEAN));
+	}
+
+}
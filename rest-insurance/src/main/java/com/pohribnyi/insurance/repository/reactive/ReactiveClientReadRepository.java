@@ -0,0 +1,82 @@
+package com.pohribnyi.insurance.repository.reactive;
+
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.config.ReactiveReadConnections;
+import com.pohribnyi.insurance.dto.request.ClientPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ReactiveClientReadRepository {
+
+	private final DatabaseClient databaseClient;
+
+	public ReactiveClientReadRepository(ReactiveReadConnections connections) {
+		this.databaseClient = connections.databaseClient();
+	}
+
+	public Mono<ClientResponseDTO> findById(UUID id) {
+		return databaseClient.sql("SELECT id, first_name, last_name, email FROM clients WHERE id = :id")
+				.bind("id", id)
+				.map(ReactiveClientReadRepository::toClient)
+				.one();
+	}
+
+	// Mirrors ClientSpecification; fetches one extra row so the caller can tell whether a next page exists
+	public Flux<ClientResponseDTO> findPage(ClientPageableRequestDTO request) {
+		StringBuilder sql = new StringBuilder("SELECT id, first_name, last_name, email FROM clients WHERE TRUE");
+		if (request.after() != null) {
+			sql.append(" AND id > :after");
+		}
+		if (hasText(request.firstName())) {
+			sql.append(" AND lower(first_name) LIKE :firstName");
+		}
+		if (hasText(request.lastName())) {
+			sql.append(" AND lower(last_name) LIKE :lastName");
+		}
+		if (hasText(request.email())) {
+			sql.append(" AND lower(email) LIKE :email");
+		}
+		sql.append(" ORDER BY id LIMIT :limit");
+
+		GenericExecuteSpec spec = databaseClient.sql(sql.toString()).bind("limit", request.size() + 1);
+		if (request.after() != null) {
+			spec = spec.bind("after", request.after());
+		}
+		if (hasText(request.firstName())) {
+			spec = spec.bind("firstName", containsPattern(request.firstName()));
+		}
+		if (hasText(request.lastName())) {
+			spec = spec.bind("lastName", containsPattern(request.lastName()));
+		}
+		if (hasText(request.email())) {
+			spec = spec.bind("email", containsPattern(request.email()));
+		}
+		return spec.map(ReactiveClientReadRepository::toClient).all();
+	}
+
+	private static boolean hasText(String value) {
+		return value != null && !value.isBlank();
+	}
+
+	private static String containsPattern(String value) {
+		return "%" + value.trim().toLowerCase() + "%";
+	}
+
+	private static ClientResponseDTO toClient(Readable row) {
+		return new ClientResponseDTO(
+				row.get("id", UUID.class),
+				row.get("first_name", String.class),
+				row.get("last_name", String.class),
+				row.get("email", String.class));
+	}
+
+}
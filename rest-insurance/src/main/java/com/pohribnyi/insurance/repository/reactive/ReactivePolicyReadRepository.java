@@ -0,0 +1,121 @@
+package com.pohribnyi.insurance.repository.reactive;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.stereotype.Repository;
+
+import com.pohribnyi.insurance.config.ReactiveReadConnections;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@Repository
+public class ReactivePolicyReadRepository {
+
+	private final DatabaseClient databaseClient;
+
+	public ReactivePolicyReadRepository(ReactiveReadConnections connections) {
+		this.databaseClient = connections.databaseClient();
+	}
+
+	public Mono<InsurancePolicyResponseDTO> findById(UUID id) {
+		return databaseClient.sql("""
+				SELECT p.id, p.policy_number, p.policy_type, p.start_date, p.end_date, p.covered_risks,
+				       c.id AS client_id, c.first_name, c.last_name, c.email
+				FROM insurance_policies p
+				JOIN clients c ON c.id = p.client_id
+				WHERE p.id = :id
+				""")
+				.bind("id", id)
+				.map(ReactivePolicyReadRepository::toPolicy)
+				.one();
+	}
+
+	public Flux<PolicySummaryResponseDTO> findPage(PolicyPageableRequestDTO request) {
+		Map<String, Object> binds = new LinkedHashMap<>();
+		String where = where(request, binds);
+		binds.put("limit", request.size());
+		binds.put("offset", (long) request.page() * request.size());
+
+		return bindAll(databaseClient.sql("""
+				SELECT p.id, p.policy_number, p.policy_type, p.start_date, p.end_date
+				FROM insurance_policies p
+				""" + where + " ORDER BY p.id LIMIT :limit OFFSET :offset"), binds)
+				.map(row -> new PolicySummaryResponseDTO(
+						row.get("id", UUID.class),
+						row.get("policy_number", String.class),
+						row.get("policy_type", String.class),
+						row.get("start_date", LocalDate.class),
+						row.get("end_date", LocalDate.class)))
+				.all();
+	}
+
+	public Mono<Long> count(PolicyPageableRequestDTO request) {
+		Map<String, Object> binds = new LinkedHashMap<>();
+		String where = where(request, binds);
+
+		return bindAll(databaseClient.sql("SELECT count(*) AS total FROM insurance_policies p " + where), binds)
+				.map(row -> row.get("total", Long.class))
+				.one();
+	}
+
+	// Mirrors InsurancePolicySpecification so both read paths filter the same way
+	private static String where(PolicyPageableRequestDTO request, Map<String, Object> binds) {
+		StringBuilder where = new StringBuilder("WHERE TRUE");
+		if (!request.includeArchived()) {
+			where.append(" AND p.archived = FALSE");
+		}
+		if (request.clientId() != null) {
+			where.append(" AND p.client_id = :clientId");
+			binds.put("clientId", request.clientId());
+		}
+		if (request.policyType() != null && !request.policyType().isBlank()) {
+			where.append(" AND p.policy_type = :policyType");
+			binds.put("policyType", request.policyType());
+		}
+		if (request.policyNumber() != null && !request.policyNumber().isBlank()) {
+			where.append(" AND p.policy_number = :policyNumber");
+			binds.put("policyNumber", request.policyNumber());
+		}
+		if (request.coveredRisk() != null && !request.coveredRisk().isBlank()) {
+			where.append(" AND p.covered_risks @> ARRAY[CAST(:coveredRisk AS text)]");
+			binds.put("coveredRisk", request.coveredRisk());
+		}
+		return where.toString();
+	}
+
+	private static GenericExecuteSpec bindAll(GenericExecuteSpec spec, Map<String, Object> binds) {
+		for (Map.Entry<String, Object> bind : binds.entrySet()) {
+			spec = spec.bind(bind.getKey(), bind.getValue());
+		}
+		return spec;
+	}
+
+	private static InsurancePolicyResponseDTO toPolicy(Readable row) {
+		String[] coveredRisks = row.get("covered_risks", String[].class);
+		return new InsurancePolicyResponseDTO(
+				row.get("id", UUID.class),
+				row.get("policy_number", String.class),
+				row.get("policy_type", String.class),
+				row.get("start_date", LocalDate.class),
+				row.get("end_date", LocalDate.class),
+				coveredRisks == null ? List.of() : List.of(coveredRisks),
+				new ClientResponseDTO(
+						row.get("client_id", UUID.class),
+						row.get("first_name", String.class),
+						row.get("last_name", String.class),
+						row.get("email", String.class)));
+	}
+
+}
@@ -0,0 +1,266 @@
+package com.pohribnyi.insurance.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.bulk.BulkPolicyOperationDTO;
+import com.pohribnyi.insurance.dto.request.bulk.BulkPolicyRequestDTO;
+import com.pohribnyi.insurance.dto.response.bulk.BulkOperationResultDTO;
+import com.pohribnyi.insurance.dto.response.bulk.BulkPolicyResponseDTO;
+import com.pohribnyi.insurance.messaging.DomainEventPublisher;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.enums.BulkOperationType;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+import com.pohribnyi.insurance.util.exception.ValidationException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BulkPolicyService {
+
+	private final InsurancePolicyRepository policyRepository;
+	private final ClientRepository clientRepository;
+	private final InsurancePolicyService policyService;
+	private final Validator validator;
+	private final PlatformTransactionManager transactionManager;
+	private final EntityManager entityManager;
+	private final DomainEventPublisher domainEventPublisher;
+	private final PolicyArchiveService policyArchiveService;
+
+	@Value("${app.bulk.batch-size:200}")
+	private int batchSize;
+
+	public BulkPolicyResponseDTO executeBulk(BulkPolicyRequestDTO request) {
+		List<BulkPolicyOperationDTO> operations = request.operations();
+		List<BulkOperationResultDTO> results = new ArrayList<>(operations.size());
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		for (int from = 0; from < operations.size(); from += batchSize) {
+			int to = Math.min(from + batchSize, operations.size());
+			results.addAll(executeBatch(transactionTemplate, operations, from, to));
+		}
+
+		int successCount = (int) results.stream().filter(result -> result.error() == null).count();
+		return new BulkPolicyResponseDTO(successCount, results.size() - successCount, results);
+	}
+
+	private List<BulkOperationResultDTO> executeBatch(TransactionTemplate transactionTemplate,
+			List<BulkPolicyOperationDTO> operations, int from, int to) {
+		List<BulkOperationResultDTO> batchResults = new ArrayList<>(to - from);
+		try {
+			transactionTemplate.executeWithoutResult(status -> {
+				BatchContext context = preload(operations.subList(from, to));
+				for (int index = from; index < to; index++) {
+					batchResults.add(apply(index, operations.get(index), context));
+				}
+				entityManager.flush();
+				publishEvents(context);
+			});
+			return batchResults;
+		} catch (RuntimeException e) {
+			log.error("Bulk batch [{}, {}) rolled back", from, to, e);
+			return rollBack(batchResults, operations, from, to, e);
+		} finally {
+			entityManager.clear();
+		}
+	}
+
+	private BatchContext preload(List<BulkPolicyOperationDTO> batch) {
+		Set<UUID> policyIds = new HashSet<>();
+		Set<UUID> clientIds = new HashSet<>();
+		Set<String> policyNumbers = new HashSet<>();
+
+		for (BulkPolicyOperationDTO operation : batch) {
+			if (operation.operation() != BulkOperationType.CREATE && operation.id() != null) {
+				policyIds.add(operation.id());
+			}
+			if (operation.create() != null) {
+				addIfPresent(clientIds, operation.create().clientId());
+				addIfPresent(policyNumbers, operation.create().policyNumber());
+			}
+			if (operation.update() != null) {
+				addIfPresent(clientIds, operation.update().clientId());
+			}
+		}
+
+		Map<UUID, InsurancePolicy> policies = policyRepository.findAllById(policyIds).stream()
+				.collect(Collectors.toMap(InsurancePolicy::getId, Function.identity()));
+		Map<UUID, Client> clients = clientRepository.findAllById(clientIds).stream()
+				.collect(Collectors.toMap(Client::getId, Function.identity()));
+		Set<String> takenNumbers = policyNumbers.isEmpty() ? new HashSet<>()
+				: new HashSet<>(policyRepository.findExistingPolicyNumbers(policyNumbers));
+
+		return new BatchContext(policies, clients, takenNumbers, new ArrayList<>(), new LinkedHashMap<>(),
+				new LinkedHashMap<>());
+	}
+
+	// Runs after the flush so updated policies already carry their new version
+	private void publishEvents(BatchContext context) {
+		context.created().forEach(domainEventPublisher::policyCreated);
+		context.updated().values().forEach(domainEventPublisher::policyUpdated);
+		context.deleted().forEach(domainEventPublisher::policyDeleted);
+	}
+
+	private BulkOperationResultDTO apply(int index, BulkPolicyOperationDTO operation, BatchContext context) {
+		try {
+			if (operation.operation() == null) {
+				throw new ValidationException("Operation type is required");
+			}
+			return switch (operation.operation()) {
+				case CREATE -> create(index, operation, context);
+				case UPDATE -> update(index, operation, context);
+				case DELETE -> delete(index, operation, context);
+			};
+		} catch (ValidationException e) {
+			return failure(index, operation, HttpStatus.BAD_REQUEST, e.getMessage());
+		} catch (ResourceNotFoundException e) {
+			return failure(index, operation, HttpStatus.NOT_FOUND, e.getMessage());
+		} catch (DuplicateResourceException e) {
+			return failure(index, operation, HttpStatus.CONFLICT, e.getMessage());
+		}
+	}
+
+	private BulkOperationResultDTO create(int index, BulkPolicyOperationDTO operation, BatchContext context) {
+		CreateInsurancePolicyRequestDTO request = validate(operation.create(), "create");
+		policyService.validateDates(request.startDate(), request.endDate());
+
+		if (context.takenNumbers().contains(request.policyNumber())) {
+			throw new DuplicateResourceException("Policy with number " + request.policyNumber() + " already exists");
+		}
+
+		Client client = context.client(request.clientId());
+		InsurancePolicy policy = policyRepository.save(request.toEntity(client));
+		context.takenNumbers().add(policy.getPolicyNumber());
+		context.created().add(policy);
+
+		return success(index, operation, policy.getId(), HttpStatus.CREATED);
+	}
+
+	private BulkOperationResultDTO update(int index, BulkPolicyOperationDTO operation, BatchContext context) {
+		UpdateInsurancePolicyRequestDTO request = validate(operation.update(), "update");
+		policyService.validateDates(request.startDate(), request.endDate());
+
+		InsurancePolicy policy = context.policy(operation.id());
+		Client client = policy.getClient();
+		if (!client.getId().equals(request.clientId())) {
+			client = context.client(request.clientId());
+		}
+
+		policy.setPolicyType(request.policyType());
+		policy.setStartDate(request.startDate());
+		policy.setEndDate(request.endDate());
+		policy.setCoveredRisks(request.coveredRisks());
+		policy.setClient(client);
+		policy.setArchived(policyArchiveService.isArchived(request.endDate()));
+		context.updated().put(policy.getId(), policy);
+
+		return success(index, operation, policy.getId(), HttpStatus.OK);
+	}
+
+	private BulkOperationResultDTO delete(int index, BulkPolicyOperationDTO operation, BatchContext context) {
+		InsurancePolicy policy = context.policy(operation.id());
+		context.policies().remove(policy.getId());
+		policyRepository.delete(policy);
+		context.updated().remove(policy.getId());
+		context.deleted().put(policy.getId(), policy.getVersion());
+
+		return success(index, operation, policy.getId(), HttpStatus.NO_CONTENT);
+	}
+
+	private <T> T validate(T payload, String name) {
+		if (payload == null) {
+			throw new ValidationException("Payload '" + name + "' is required");
+		}
+		Set<ConstraintViolation<T>> violations = validator.validate(payload);
+		if (!violations.isEmpty()) {
+			throw new ValidationException(violations.stream()
+					.map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+					.sorted()
+					.collect(Collectors.joining("; ")));
+		}
+		return payload;
+	}
+
+	private List<BulkOperationResultDTO> rollBack(List<BulkOperationResultDTO> applied,
+			List<BulkPolicyOperationDTO> operations, int from, int to, RuntimeException cause) {
+		List<BulkOperationResultDTO> results = new ArrayList<>(to - from);
+		for (int index = from; index < to; index++) {
+			BulkOperationResultDTO result = index - from < applied.size() ? applied.get(index - from) : null;
+			if (result != null && result.error() != null) {
+				results.add(result);
+			} else {
+				results.add(failure(index, operations.get(index), HttpStatus.INTERNAL_SERVER_ERROR,
+						"Batch rolled back: " + cause.getMessage()));
+			}
+		}
+		return results;
+	}
+
+	private static BulkOperationResultDTO success(int index, BulkPolicyOperationDTO operation, UUID id,
+			HttpStatus status) {
+		return new BulkOperationResultDTO(index, operation.operation(), id, status.value(), null);
+	}
+
+	private static BulkOperationResultDTO failure(int index, BulkPolicyOperationDTO operation, HttpStatus status,
+			String error) {
+		return new BulkOperationResultDTO(index, operation.operation(), operation.id(), status.value(), error);
+	}
+
+	private static <T> void addIfPresent(Collection<T> target, T value) {
+		if (value != null) {
+			target.add(value);
+		}
+	}
+
+	private record BatchContext(
+			Map<UUID, InsurancePolicy> policies, 
+			Map<UUID, Client> clients, 
+			Set<String> takenNumbers,
+			List<InsurancePolicy> created,
+			Map<UUID, InsurancePolicy> updated,
+			Map<UUID, Long> deleted) {
+
+		InsurancePolicy policy(UUID id) {
+			InsurancePolicy policy = id == null ? null : policies.get(id);
+			if (policy == null) {
+				throw new ResourceNotFoundException("Policy not found with id: " + id);
+			}
+			return policy;
+		}
+
+		Client client(UUID id) {
+			Client client = clients.get(id);
+			if (client == null) {
+				throw new ResourceNotFoundException("Client not found with id: " + id);
+			}
+			return client;
+		}
+	}
+
+}
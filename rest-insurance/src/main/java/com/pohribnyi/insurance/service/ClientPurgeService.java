@@ -0,0 +1,128 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.dto.response.client.ClientPurgeJobResponseDTO;
+import com.pohribnyi.insurance.model.entity.ClientPurgeJob;
+import com.pohribnyi.insurance.model.enums.PurgeJobStatus;
+import com.pohribnyi.insurance.repository.ClientPurgeJobRepository;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClientPurgeService {
+
+	private final ClientRepository clientRepository;
+	private final InsurancePolicyRepository policyRepository;
+	private final ClientPurgeJobRepository jobRepository;
+	private final ClientPurgeWorker purgeWorker;
+
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${app.client.purge.stale-after:15m}")
+	private Duration staleAfter;
+
+	// uk_purge_job_active_client admits one active job per client; a concurrent start that loses
+	// the insert returns the winner's job instead
+	public ClientPurgeJobResponseDTO startPurge(UUID clientId) {
+		Optional<ClientPurgeJob> active = findActive(clientId);
+		if (active.isPresent()) {
+			return ClientPurgeJobResponseDTO.fromEntity(active.get());
+		}
+
+		if (!clientRepository.existsById(clientId)) {
+			throw new ResourceNotFoundException("Client not found with id: " + clientId);
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		ClientPurgeJob job;
+		try {
+			job = jobRepository.saveAndFlush(ClientPurgeJob.builder()
+					.clientId(clientId)
+					.status(PurgeJobStatus.PENDING)
+					.totalPolicies(policyRepository.countByClientId(clientId))
+					.createdAt(now)
+					.updatedAt(now)
+					.ownerToken(UUID.randomUUID())
+					.heartbeatAt(now)
+					.build());
+		} catch (DataIntegrityViolationException e) {
+			return findActive(clientId)
+					.map(ClientPurgeJobResponseDTO::fromEntity)
+					.orElseThrow(() -> e);
+		}
+
+		// Tracked before it is queued, so the heartbeat covers the wait in the executor queue too
+		purgeWorker.track(job.getId(), job.getOwnerToken());
+		try {
+			purgeWorker.purge(job.getId(), job.getOwnerToken());
+		} catch (TaskRejectedException e) {
+			log.warn("Purge job {} for client {} was rejected by the executor", job.getId(), clientId);
+			purgeWorker.untrack(job.getId());
+			UUID jobId = job.getId();
+			UUID token = job.getOwnerToken();
+			inTransaction(() -> jobRepository.fail(jobId, token, "Rejected by the purge executor, try again later",
+					LocalDateTime.now(), PurgeJobStatus.FAILED, PurgeJobStatus.ACTIVE));
+			job = jobRepository.findById(jobId).orElseThrow();
+		}
+		return ClientPurgeJobResponseDTO.fromEntity(job);
+	}
+
+	// The owning worker refreshes heartbeatAt while the job waits or runs, so a stale heartbeat means
+	// its instance went away; the job is failed here so the client can be purged again
+	private Optional<ClientPurgeJob> findActive(UUID clientId) {
+		Optional<ClientPurgeJob> active = jobRepository.findFirstByClientIdAndStatusIn(clientId,
+				PurgeJobStatus.ACTIVE);
+		if (active.isEmpty()) {
+			return active;
+		}
+
+		ClientPurgeJob job = active.get();
+		LocalDateTime cutoff = LocalDateTime.now().minus(staleAfter);
+		if (!job.getHeartbeatAt().isBefore(cutoff)) {
+			return active;
+		}
+
+		int abandoned = inTransaction(() -> jobRepository.abandonIfStale(job.getId(), cutoff,
+				"No heartbeat for " + staleAfter + ", abandoned", LocalDateTime.now(), PurgeJobStatus.FAILED,
+				PurgeJobStatus.ACTIVE));
+		if (abandoned == 0) {
+			// A heartbeat or the worker's final write got there first
+			return jobRepository.findFirstByClientIdAndStatusIn(clientId, PurgeJobStatus.ACTIVE);
+		}
+		log.warn("Purge job {} for client {} sent no heartbeat since {}, marked it failed", job.getId(), clientId,
+				job.getHeartbeatAt());
+		return Optional.empty();
+	}
+
+	private int inTransaction(Supplier<Integer> update) {
+		Integer updated = new TransactionTemplate(transactionManager).execute(status -> update.get());
+		return updated == null ? 0 : updated;
+	}
+
+	@Transactional(readOnly = true)
+	public ClientPurgeJobResponseDTO getPurgeJob(UUID jobId) {
+		return jobRepository.findById(jobId)
+				.map(ClientPurgeJobResponseDTO::fromEntity)
+				.orElseThrow(() -> new ResourceNotFoundException("Purge job not found with id: " + jobId));
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.messaging.DomainEventPublisher;
+import com.pohribnyi.insurance.model.entity.ClientPurgeJob;
+import com.pohribnyi.insurance.model.enums.PurgeJobStatus;
+import com.pohribnyi.insurance.repository.ClientPurgeJobRepository;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepositoryCustom.DeletedPolicy;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs purge jobs in the background. A job is tracked from the moment it is queued, and its heartbeat
+ * is refreshed while it waits or runs, so only jobs whose instance went away look stale. Every write
+ * names the job's owner token, and a write that finds nothing stops the job without touching the client.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ClientPurgeWorker {
+
+	private static final int MAX_ERROR_LENGTH = 1024;
+
+	private final ClientRepository clientRepository;
+	private final InsurancePolicyRepository policyRepository;
+	private final ClientPurgeJobRepository jobRepository;
+	private final PlatformTransactionManager transactionManager;
+	private final DomainEventPublisher domainEventPublisher;
+
+	private final Map<UUID, UUID> trackedJobs = new ConcurrentHashMap<>();
+
+	@Value("${app.client.purge.batch-size:1000}")
+	private int batchSize;
+
+	public void track(UUID jobId, UUID token) {
+		trackedJobs.put(jobId, token);
+	}
+
+	public void untrack(UUID jobId) {
+		trackedJobs.remove(jobId);
+	}
+
+	@Scheduled(fixedDelayString = "${app.client.purge.heartbeat-interval:1m}")
+	public void heartbeat() {
+		if (trackedJobs.isEmpty()) {
+			return;
+		}
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> jobRepository
+				.heartbeat(List.copyOf(trackedJobs.values()), LocalDateTime.now(), PurgeJobStatus.ACTIVE));
+	}
+
+	@Async
+	public void purge(UUID jobId, UUID token) {
+		try {
+			run(jobId, token);
+		} finally {
+			untrack(jobId);
+		}
+	}
+
+	private void run(UUID jobId, UUID token) {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		ClientPurgeJob job = transactionTemplate.execute(status -> jobRepository.transition(jobId, token,
+				PurgeJobStatus.PENDING, PurgeJobStatus.RUNNING, LocalDateTime.now()) == 1
+						? jobRepository.findById(jobId).orElseThrow()
+						: null);
+		if (job == null) {
+			log.warn("Purge job {} is no longer owned by this worker, not starting it", jobId);
+			return;
+		}
+		UUID clientId = job.getClientId();
+		log.info("Starting purge job {} for client {}", jobId, clientId);
+
+		try {
+			int deleted;
+			do {
+				deleted = transactionTemplate.execute(status -> {
+					List<DeletedPolicy> batch = policyRepository.deleteBatchByClientId(clientId, batchSize);
+					// The job row is locked from here on, so it cannot be taken over before this commits
+					if (jobRepository.recordProgress(jobId, token, PurgeJobStatus.RUNNING, batch.size(),
+							LocalDateTime.now()) == 0) {
+						status.setRollbackOnly();
+						return -1;
+					}
+					batch.forEach(policy -> domainEventPublisher.policyDeleted(policy.id(), policy.version()));
+					return batch.size();
+				});
+			} while (deleted > 0);
+
+			boolean completed = deleted == 0 && Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+				if (jobRepository.transition(jobId, token, PurgeJobStatus.RUNNING, PurgeJobStatus.COMPLETED,
+						LocalDateTime.now()) == 0) {
+					return false;
+				}
+				clientRepository.findVersionById(clientId).ifPresent(version -> {
+					clientRepository.bulkDeleteById(clientId);
+					domainEventPublisher.clientDeleted(clientId, version);
+				});
+				return true;
+			}));
+			if (completed) {
+				log.info("Purge job {} for client {} completed", jobId, clientId);
+			} else {
+				log.warn("Purge job {} for client {} was taken over, stopping", jobId, clientId);
+			}
+		} catch (RuntimeException e) {
+			log.error("Purge job {} for client {} failed", jobId, clientId, e);
+			String errorMessage = e.getClass().getSimpleName() + ": " + e.getMessage();
+			String truncated = errorMessage.length() > MAX_ERROR_LENGTH
+					? errorMessage.substring(0, MAX_ERROR_LENGTH)
+					: errorMessage;
+			transactionTemplate.executeWithoutResult(status -> jobRepository.fail(jobId, token, truncated,
+					LocalDateTime.now(), PurgeJobStatus.FAILED, PurgeJobStatus.ACTIVE));
+		}
+	}
+
+}
@@ -1,17 +1,34 @@
 package com.pohribnyi.insurance.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import com.pohribnyi.insurance.dto.message.EmailMessageDTO;
+import com.pohribnyi.insurance.messaging.DomainEventPublisher;
 import com.pohribnyi.insurance.messaging.EmailNotificationProducer;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.dto.request.ClientPageableRequestDTO;
 import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientDetailsResponseDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientPageableResponseDTO;
 import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
 import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
 import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.ClientSpecification;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.util.concurrent.SingleFlight;
 import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
 import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
 
@@ -22,13 +39,44 @@ import lombok.RequiredArgsConstructor;
 public class ClientService {
 
     private final ClientRepository clientRepository;
+    private final InsurancePolicyRepository policyRepository;
     private final EmailNotificationProducer emailNotificationProducer;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final SingleFlight<UUID, ClientResponseDTO> clientLookups;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int STREAM_FLUSH_INTERVAL = 500;
 
     @Transactional(readOnly = true)
-    public List<ClientResponseDTO> getAllClients() {
-        return clientRepository.findAll().stream()
+    public ClientPageableResponseDTO getClients(ClientPageableRequestDTO request) {
+        int size = request.size();
+        List<Client> clients = clientRepository.findBy(ClientSpecification.withFilters(request),
+                query -> query.sortBy(Sort.by("id")).limit(size + 1).all());
+
+        List<ClientResponseDTO> page = clients.stream()
+                .limit(size)
                 .map(ClientResponseDTO::fromEntity)
                 .toList();
+
+        UUID nextCursor = clients.size() > size ? page.getLast().id() : null;
+        return new ClientPageableResponseDTO(page, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamClients(ClientPageableRequestDTO request, OutputStream out) throws IOException {
+        try (Stream<ClientResponseDTO> clients = clientRepository.streamAll(ClientSpecification.withFilters(request))) {
+            Iterator<ClientResponseDTO> iterator = clients.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                out.write(objectMapper.writeValueAsBytes(iterator.next()));
+                out.write('\n');
+                if (++written % STREAM_FLUSH_INTERVAL == 0) {
+                    out.flush();
+                }
+            }
+            out.flush();
+        }
     }
 
     @Transactional
@@ -41,6 +89,7 @@ public class ClientService {
         Client saved = clientRepository.save(client);
 
         emailNotificationProducer.sendWelcomeNotification(client);
+        domainEventPublisher.clientChanged(saved);
 
         return ClientResponseDTO.fromEntity(saved);
     }
@@ -59,20 +108,45 @@ public class ClientService {
         client.setLastName(request.lastName());
         client.setEmail(request.email());
 
-        Client updated = clientRepository.save(client);
+        Client updated = clientRepository.saveAndFlush(client);
+        domainEventPublisher.clientChanged(updated);
         return ClientResponseDTO.fromEntity(updated);
     }
 
     @Transactional
     public void deleteClient(UUID id) {
-        if (!clientRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Client not found with id: " + id);
-        }
-        clientRepository.deleteById(id);
+        long version = clientRepository.findVersionById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Client not found with id: " + id));
+        policyRepository.deleteAllByClientId(id)
+                .forEach(policy -> domainEventPublisher.policyDeleted(policy.id(), policy.version()));
+        clientRepository.bulkDeleteById(id);
+        domainEventPublisher.clientDeleted(id, version);
     }
 
     @Transactional(readOnly = true)
+    public ClientDetailsResponseDTO getClientWithPolicies(UUID id) {
+        Client client = getClientEntity(id);
+        List<InsurancePolicy> policies = policyRepository.findAllByClientIdOrderByStartDateAscIdAsc(id);
+        return ClientDetailsResponseDTO.fromEntity(client, policies);
+    }
+
+    public ClientResponseDTO getClientById(UUID id) {
+        // Inside a caller's transaction the result must reflect that transaction, so it is not shared
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return ClientResponseDTO.fromEntity(loadClient(id));
+        }
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return clientLookups.load(id,
+                () -> transactionTemplate.execute(status -> ClientResponseDTO.fromEntity(loadClient(id))));
+    }
+
+    // Entities are never shared between requests: each caller gets one managed by its own persistence context
     public Client getClientEntity(UUID id) {
+        return loadClient(id);
+    }
+
+    private Client loadClient(UUID id) {
         return clientRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Client not found with id: " + id));
     }
@@ -0,0 +1,157 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.pohribnyi.insurance.util.exception.IdempotencyKeyConflictException;
+import com.pohribnyi.insurance.util.exception.IdempotencyKeyMismatchException;
+import com.pohribnyi.insurance.util.exception.ValidationException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Replays the original response for a retried request carrying the same {@code Idempotency-Key}.
+ * Responses are kept in memory for the TTL, bounded by {@code max-entries} with the oldest
+ * evicted first, so a replay never touches the database. Failed attempts are not remembered
+ * and can be retried with the same key. The store is a single insertion-ordered map guarded by
+ * its own lock, held only for the lookup and never while the action runs.
+ */
+@Service
+public class IdempotencyService {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final Duration ttl;
+	private final int maxEntries;
+	private final Clock clock;
+	private final MeterRegistry meterRegistry;
+	private final LinkedHashMap<String, Entry> entries;
+
+	@Autowired
+	public IdempotencyService(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+			@Value("${app.idempotency.max-entries:10000}") int maxEntries, MeterRegistry meterRegistry) {
+		this(ttl, maxEntries, Clock.systemUTC(), meterRegistry);
+	}
+
+	IdempotencyService(Duration ttl, int maxEntries, Clock clock, MeterRegistry meterRegistry) {
+		this.ttl = ttl;
+		this.maxEntries = maxEntries;
+		this.clock = clock;
+		this.meterRegistry = meterRegistry;
+		this.entries = new LinkedHashMap<>() {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	public <T> ResponseEntity<T> execute(String scope, String key, Object request, Supplier<ResponseEntity<T>> action) {
+		if (key == null) {
+			return action.get();
+		}
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new ValidationException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+		}
+
+		String storeKey = scope + ":" + key;
+		Instant now = clock.instant();
+		Entry entry = new Entry(request, now.plus(ttl));
+		Entry existing;
+		synchronized (entries) {
+			evictExpired(now);
+			existing = entries.putIfAbsent(storeKey, entry);
+		}
+		if (existing != null) {
+			return replay(existing, request);
+		}
+
+		try {
+			ResponseEntity<T> response = action.get();
+			if (response.getStatusCode().is5xxServerError()) {
+				remove(storeKey, entry);
+			} else {
+				entry.response = response;
+			}
+			count("executed");
+			return response;
+		} catch (RuntimeException e) {
+			remove(storeKey, entry);
+			throw e;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> ResponseEntity<T> replay(Entry existing, Object request) {
+		if (!existing.request.equals(request)) {
+			count("mismatch");
+			throw new IdempotencyKeyMismatchException(
+					HEADER + " was already used with a different request payload");
+		}
+		ResponseEntity<?> response = existing.response;
+		if (response == null) {
+			count("in_flight");
+			throw new IdempotencyKeyConflictException(
+					"A request with this " + HEADER + " is still being processed");
+		}
+		count("replayed");
+		return (ResponseEntity<T>) ResponseEntity.status(response.getStatusCode())
+				.headers(response.getHeaders())
+				.header(REPLAYED_HEADER, "true")
+				.body(response.getBody());
+	}
+
+	// Every entry lives for the same TTL, so expired entries are always at the head of the insertion order
+	private void evictExpired(Instant now) {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (iterator.hasNext() && iterator.next().isExpired(now)) {
+			iterator.remove();
+		}
+	}
+
+	private void remove(String storeKey, Entry entry) {
+		synchronized (entries) {
+			entries.remove(storeKey, entry);
+		}
+	}
+
+	private void count(String result) {
+		Counter.builder("app.idempotency.requests")
+				.description("Requests carrying an Idempotency-Key, by outcome")
+				.tag("result", result)
+				.register(meterRegistry)
+				.increment();
+	}
+
+	private static final class Entry {
+
+		private final Object request;
+		private final Instant expiresAt;
+		private volatile ResponseEntity<?> response;
+
+		private Entry(Object request, Instant expiresAt) {
+			this.request = request;
+			this.expiresAt = expiresAt;
+		}
+
+		private boolean isExpired(Instant now) {
+			return now.isAfter(expiresAt);
+		}
+
+	}
+
+}
@@ -7,8 +7,12 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
@@ -16,10 +20,12 @@ import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
 import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicySummaryResponseDTO;
+import com.pohribnyi.insurance.messaging.DomainEventPublisher;
 import com.pohribnyi.insurance.model.entity.Client;
 import com.pohribnyi.insurance.model.entity.InsurancePolicy;
 import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
 import com.pohribnyi.insurance.repository.InsurancePolicySpecification;
+import com.pohribnyi.insurance.util.concurrent.SingleFlight;
 import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
 import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
 import com.pohribnyi.insurance.util.exception.ValidationException;
@@ -32,6 +38,10 @@ public class InsurancePolicyService {
 
 	private final InsurancePolicyRepository policyRepository;
 	private final ClientService clientService;
+	private final DomainEventPublisher domainEventPublisher;
+	private final SingleFlight<UUID, InsurancePolicyResponseDTO> policyLookups;
+	private final PlatformTransactionManager transactionManager;
+	private final PolicyArchiveService policyArchiveService;
 
 	@Transactional
 	public InsurancePolicyResponseDTO createPolicy(CreateInsurancePolicyRequestDTO request) {
@@ -45,11 +55,21 @@ public class InsurancePolicyService {
 		InsurancePolicy policy = request.toEntity(client);
 
 		InsurancePolicy saved = policyRepository.save(policy);
+		domainEventPublisher.policyCreated(saved);
 		return InsurancePolicyResponseDTO.fromEntity(saved);
 	}
 
-	@Transactional(readOnly = true)
 	public InsurancePolicyResponseDTO getPolicyById(UUID id) {
+		// Inside a caller's transaction the result must reflect that transaction, so it is not shared
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return loadPolicy(id);
+		}
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setReadOnly(true);
+		return policyLookups.load(id, () -> transactionTemplate.execute(status -> loadPolicy(id)));
+	}
+
+	private InsurancePolicyResponseDTO loadPolicy(UUID id) {
 		InsurancePolicy policy = policyRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Policy not found with id: " + id));
 		return InsurancePolicyResponseDTO.fromEntity(policy);
@@ -72,22 +92,25 @@ public class InsurancePolicyService {
 		policy.setEndDate(request.endDate());
 		policy.setCoveredRisks(request.coveredRisks());
 		policy.setClient(client);
+		policy.setArchived(policyArchiveService.isArchived(request.endDate()));
 
-		InsurancePolicy updated = policyRepository.save(policy);
+		InsurancePolicy updated = policyRepository.saveAndFlush(policy);
+		domainEventPublisher.policyUpdated(updated);
 		return InsurancePolicyResponseDTO.fromEntity(updated);
 	}
 
 	@Transactional
 	public void deletePolicy(UUID id) {
-		if (!policyRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Policy not found with id: " + id);
-		}
-		policyRepository.deleteById(id);
+		InsurancePolicy policy = policyRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Policy not found with id: " + id));
+		policyRepository.delete(policy);
+		domainEventPublisher.policyDeleted(id, policy.getVersion());
 	}
 
 	@Transactional(readOnly = true)
 	public PolicyPageableResponseDTO getPolicies(PolicyPageableRequestDTO request) {
-		Pageable pageable = PageRequest.of(request.page(), request.size());
+		// Same order as ReactivePolicyReadRepository.findPage, so both paths return the same page
+		Pageable pageable = PageRequest.of(request.page(), request.size(), Sort.by("id"));
 		Page<InsurancePolicy> page = policyRepository.findAll(InsurancePolicySpecification.withFilters(request),
 				pageable);
 
@@ -103,7 +126,7 @@ public class InsurancePolicyService {
 		return policyRepository.findAll(InsurancePolicySpecification.withFilters(request));
 	}
 
-	private void validateDates(LocalDate startDate, LocalDate endDate) {
+	void validateDates(LocalDate startDate, LocalDate endDate) {
 		if (endDate.isBefore(startDate) || endDate.isEqual(startDate)) {
 			throw new ValidationException("End date must be after start date");
 		}
@@ -0,0 +1,57 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyArchiveService {
+
+	private final InsurancePolicyRepository policyRepository;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${app.policy.archive.retention:365d}")
+	private Duration retention;
+
+	@Value("${app.policy.archive.batch-size:1000}")
+	private int batchSize;
+
+	@Scheduled(cron = "${app.policy.archive.cron:0 0 3 * * *}")
+	public void archiveExpiredPolicies() {
+		LocalDate cutoff = cutoff();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		long total = 0;
+		int archived;
+		do {
+			archived = transactionTemplate.execute(
+					status -> policyRepository.archiveBatchExpiredBefore(cutoff, batchSize));
+			total += archived;
+		} while (archived > 0);
+
+		log.info("Moved {} policies expired before {} to the archive partition", total, cutoff);
+	}
+
+	// Writers use the same rule as the scheduled run, so an edit never moves a policy across partitions
+	// the next run would move it back from
+	public boolean isArchived(LocalDate endDate) {
+		return endDate.isBefore(cutoff());
+	}
+
+	private LocalDate cutoff() {
+		return LocalDate.now().minusDays(retention.toDays());
+	}
+
+}
@@ -0,0 +1,89 @@
+package com.pohribnyi.insurance.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.pohribnyi.insurance.messaging.EmailNotificationProducer;
+import com.pohribnyi.insurance.model.entity.PolicyExpiryReminder;
+import com.pohribnyi.insurance.repository.ExpiringPolicyView;
+import com.pohribnyi.insurance.repository.PolicyExpiryReminderRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyExpiryReminderService {
+
+	private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+	private final PolicyExpiryReminderRepository reminderRepository;
+	private final EmailNotificationProducer emailNotificationProducer;
+	private final PlatformTransactionManager transactionManager;
+
+	@Value("${app.policy.expiry-reminder.days-ahead:30}")
+	private int daysAhead;
+
+	// Clients per batch; each batch carries all of their due policies
+	@Value("${app.policy.expiry-reminder.batch-size:500}")
+	private int batchSize;
+
+	@Scheduled(cron = "${app.policy.expiry-reminder.cron:0 0 8 * * *}")
+	public void sendExpiryReminders() {
+		LocalDate from = LocalDate.now();
+		LocalDate to = from.plusDays(daysAhead);
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		Cursor cursor = new Cursor(MIN_UUID, 0, 0);
+		long reminded = 0;
+		do {
+			Cursor previous = cursor;
+			cursor = transactionTemplate.execute(status -> remindBatch(from, to, previous));
+			reminded += cursor.policies();
+		} while (cursor.clients() == batchSize);
+
+		log.info("Sent expiry reminders for {} policies ending between {} and {}", reminded, from, to);
+	}
+
+	private Cursor remindBatch(LocalDate from, LocalDate to, Cursor after) {
+		List<ExpiringPolicyView> policies = reminderRepository.lockUnremindedExpiringPoliciesOfNextClients(from, to,
+				after.clientId(), batchSize);
+		if (policies.isEmpty()) {
+			return new Cursor(after.clientId(), 0, 0);
+		}
+
+		Map<UUID, List<ExpiringPolicyView>> byClient = new LinkedHashMap<>();
+		policies.forEach(policy -> byClient.computeIfAbsent(policy.getClientId(), id -> new ArrayList<>()).add(policy));
+
+		byClient.values().forEach(emailNotificationProducer::sendPolicyExpiryReminder);
+
+		LocalDateTime sentAt = LocalDateTime.now();
+		reminderRepository.saveAll(policies.stream()
+				.map(policy -> PolicyExpiryReminder.builder()
+						.policyId(policy.getId())
+						.endDate(policy.getEndDate())
+						.clientId(policy.getClientId())
+						.sentAt(sentAt)
+						.build())
+				.toList());
+
+		ExpiringPolicyView last = policies.get(policies.size() - 1);
+		return new Cursor(last.getClientId(), byClient.size(), policies.size());
+	}
+
+	private record Cursor(UUID clientId, int clients, int policies) {
+	}
+
+}
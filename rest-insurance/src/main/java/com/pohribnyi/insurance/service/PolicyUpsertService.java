@@ -0,0 +1,127 @@
+package com.pohribnyi.insurance.service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.bulk.PolicyUpsertBatchRequestDTO;
+import com.pohribnyi.insurance.dto.response.bulk.PolicyUpsertBatchResponseDTO;
+import com.pohribnyi.insurance.dto.response.bulk.PolicyUpsertResultDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.messaging.DomainEventPublisher;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.enums.UpsertOutcome;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepositoryCustom.UpsertResult;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+import com.pohribnyi.insurance.util.id.UuidV7;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Create-or-update keyed by policy number for partner feeds. A policy, or a whole batch, is written with
+ * a single INSERT ... ON CONFLICT statement, so concurrent syncs of the same number cannot both create it.
+ */
+@Service
+@RequiredArgsConstructor
+public class PolicyUpsertService {
+
+	private final InsurancePolicyRepository policyRepository;
+	private final ClientRepository clientRepository;
+	private final ClientService clientService;
+	private final InsurancePolicyService policyService;
+	private final DomainEventPublisher domainEventPublisher;
+
+	@Transactional
+	public UpsertedPolicy upsertPolicy(String policyNumber, UpdateInsurancePolicyRequestDTO request) {
+		policyService.validateDates(request.startDate(), request.endDate());
+
+		Client client = clientService.getClientEntity(request.clientId());
+		InsurancePolicy policy = InsurancePolicy.builder()
+				.policyNumber(policyNumber)
+				.policyType(request.policyType())
+				.startDate(request.startDate())
+				.endDate(request.endDate())
+				.coveredRisks(request.coveredRisks())
+				.client(client)
+				.build();
+
+		UpsertOutcome outcome = upsert(policy);
+		return new UpsertedPolicy(InsurancePolicyResponseDTO.fromEntity(policy), outcome);
+	}
+
+	@Transactional
+	public PolicyUpsertBatchResponseDTO upsertPolicies(PolicyUpsertBatchRequestDTO request) {
+		List<CreateInsurancePolicyRequestDTO> policies = request.policies();
+		policies.forEach(policy -> policyService.validateDates(policy.startDate(), policy.endDate()));
+
+		Set<UUID> clientIds = policies.stream()
+				.map(CreateInsurancePolicyRequestDTO::clientId)
+				.collect(Collectors.toSet());
+		Map<UUID, Client> clients = clientRepository.findAllById(clientIds).stream()
+				.collect(Collectors.toMap(Client::getId, Function.identity()));
+
+		List<InsurancePolicy> entities = new ArrayList<>(policies.size());
+		for (CreateInsurancePolicyRequestDTO policyRequest : policies) {
+			Client client = clients.get(policyRequest.clientId());
+			if (client == null) {
+				throw new ResourceNotFoundException("Client not found with id: " + policyRequest.clientId());
+			}
+			InsurancePolicy policy = policyRequest.toEntity(client);
+			policy.setId(UuidV7.randomUuid());
+			entities.add(policy);
+		}
+
+		List<UpsertResult> upserts = policyRepository.upsertAllByPolicyNumber(entities);
+		List<PolicyUpsertResultDTO> results = new ArrayList<>(policies.size());
+		Map<UpsertOutcome, Integer> counts = new EnumMap<>(UpsertOutcome.class);
+		for (int i = 0; i < entities.size(); i++) {
+			InsurancePolicy policy = entities.get(i);
+			UpsertOutcome outcome = apply(policy, upserts.get(i));
+			counts.merge(outcome, 1, Integer::sum);
+			results.add(new PolicyUpsertResultDTO(policy.getPolicyNumber(), policy.getId(), policy.getVersion(),
+					outcome));
+		}
+
+		return new PolicyUpsertBatchResponseDTO(
+				counts.getOrDefault(UpsertOutcome.CREATED, 0),
+				counts.getOrDefault(UpsertOutcome.UPDATED, 0),
+				counts.getOrDefault(UpsertOutcome.UNCHANGED, 0),
+				results);
+	}
+
+	private UpsertOutcome upsert(InsurancePolicy policy) {
+		policy.setId(UuidV7.randomUuid());
+		return apply(policy, policyRepository.upsertByPolicyNumber(policy));
+	}
+
+	// The policy is never attached to the persistence context; id and version come back from the statement
+	private UpsertOutcome apply(InsurancePolicy policy, UpsertResult result) {
+		policy.setId(result.id());
+		policy.setVersion(result.version());
+
+		switch (result.outcome()) {
+			case CREATED -> domainEventPublisher.policyCreated(policy);
+			case UPDATED -> domainEventPublisher.policyUpdated(policy);
+			case UNCHANGED -> {
+			}
+		}
+		return result.outcome();
+	}
+
+	public record UpsertedPolicy(InsurancePolicyResponseDTO policy, UpsertOutcome outcome) {
+	}
+
+}
@@ -0,0 +1,56 @@
+package com.pohribnyi.insurance.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+
+import com.pohribnyi.insurance.dto.request.ClientPageableRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientPageableResponseDTO;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
+import com.pohribnyi.insurance.repository.reactive.ReactiveClientReadRepository;
+import com.pohribnyi.insurance.repository.reactive.ReactivePolicyReadRepository;
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterparts of the JPA read methods, returning the same DTOs.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReactiveReadService {
+
+	private final ReactivePolicyReadRepository policyRepository;
+	private final ReactiveClientReadRepository clientRepository;
+
+	public Mono<InsurancePolicyResponseDTO> getPolicyById(UUID id) {
+		return policyRepository.findById(id)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Policy not found with id: " + id)));
+	}
+
+	public Mono<PolicyPageableResponseDTO> getPolicies(PolicyPageableRequestDTO request) {
+		return Mono.zip(policyRepository.findPage(request).collectList(), policyRepository.count(request))
+				.map(result -> new PolicyPageableResponseDTO(result.getT1(),
+						(int) Math.ceil((double) result.getT2() / request.size())));
+	}
+
+	public Mono<ClientResponseDTO> getClientById(UUID id) {
+		return clientRepository.findById(id)
+				.switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Client not found with id: " + id)));
+	}
+
+	public Mono<ClientPageableResponseDTO> getClients(ClientPageableRequestDTO request) {
+		int size = request.size();
+		return clientRepository.findPage(request).collectList().map(clients -> {
+			List<ClientResponseDTO> page = clients.stream().limit(size).toList();
+			UUID nextCursor = clients.size() > size ? page.getLast().id() : null;
+			return new ClientPageableResponseDTO(page, nextCursor);
+		});
+	}
+
+}
@@ -21,9 +21,10 @@ public class ReportService {
 	private final InsurancePolicyService policyService;
 
 	public byte[] generateCsvReport(PolicyPageableRequestDTO request) throws IOException {
-		
-		List<InsurancePolicy> policies = policyService.getPoliciesForReport(request);
+		return renderCsv(policyService.getPoliciesForReport(request));
+	}
 
+	public byte[] renderCsv(List<InsurancePolicy> policies) throws IOException {
 		try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
 				OutputStreamWriter osw = new OutputStreamWriter(baos);
 				CSVWriter writer = new CSVWriter(osw)) {
@@ -0,0 +1,109 @@
+package com.pohribnyi.insurance.util.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.pohribnyi.insurance.util.exception.BulkheadFullException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Caps how many callers run a class of work at once. Callers over the limit wait in a bounded
+ * FIFO queue for at most {@code maxWait}; when the queue is full they are turned away at once,
+ * and when the wait runs out they give up, both with a {@link BulkheadFullException}.
+ */
+public class Bulkhead {
+
+	private final String name;
+	private final int maxConcurrent;
+	private final int maxQueued;
+	private final Duration maxWait;
+	private final Duration retryAfter;
+	private final Semaphore permits;
+	private final AtomicInteger queued = new AtomicInteger();
+	private final MeterRegistry meterRegistry;
+	private final Timer queueWait;
+
+	public Bulkhead(String name, int maxConcurrent, int maxQueued, Duration maxWait, Duration retryAfter,
+			MeterRegistry meterRegistry) {
+		this.name = name;
+		this.maxConcurrent = maxConcurrent;
+		this.maxQueued = maxQueued;
+		this.maxWait = maxWait;
+		this.retryAfter = retryAfter;
+		this.permits = new Semaphore(maxConcurrent, true);
+		this.meterRegistry = meterRegistry;
+		Gauge.builder("app.bulkhead.active", permits, semaphore -> maxConcurrent - semaphore.availablePermits())
+				.description("Requests currently holding a bulkhead permit")
+				.tag("name", name)
+				.register(meterRegistry);
+		Gauge.builder("app.bulkhead.queue.depth", queued, AtomicInteger::get)
+				.description("Requests waiting for a bulkhead permit")
+				.tag("name", name)
+				.register(meterRegistry);
+		this.queueWait = Timer.builder("app.bulkhead.queue.wait")
+				.description("Time spent waiting for a bulkhead permit")
+				.tag("name", name)
+				.publishPercentileHistogram()
+				.register(meterRegistry);
+	}
+
+	public void acquire() {
+		// tryAcquire without a timeout would barge past callers already queued on the fair semaphore
+		if (tryAcquire(Duration.ZERO)) {
+			result("admitted").increment();
+			return;
+		}
+
+		if (queued.incrementAndGet() > maxQueued) {
+			queued.decrementAndGet();
+			result("queue-full").increment();
+			throw new BulkheadFullException(
+					"Too many " + name + " requests are waiting, try again later", retryAfter, false);
+		}
+
+		long start = System.nanoTime();
+		boolean acquired;
+		try {
+			acquired = tryAcquire(maxWait);
+		} finally {
+			queued.decrementAndGet();
+			queueWait.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+
+		if (!acquired) {
+			result("timeout").increment();
+			throw new BulkheadFullException(
+					"All " + maxConcurrent + " " + name + " slots stayed busy for " + maxWait + ", try again later",
+					retryAfter, true);
+		}
+		result("queued").increment();
+	}
+
+	public void release() {
+		permits.release();
+	}
+
+	private boolean tryAcquire(Duration timeout) {
+		try {
+			return permits.tryAcquire(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private Counter result(String result) {
+		return Counter.builder("app.bulkhead.requests")
+				.description("Requests that reached a bulkhead, by whether they were admitted or rejected")
+				.tag("name", name)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+}
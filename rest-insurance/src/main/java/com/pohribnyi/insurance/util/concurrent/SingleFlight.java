@@ -0,0 +1,110 @@
+package com.pohribnyi.insurance.util.concurrent;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Collapses concurrent loads of the same key into one: the first caller runs the loader and
+ * every caller that arrives while it is in flight waits for and shares its result or exception.
+ * Nothing is kept once the load completes, so a later call always loads fresh data. A follower
+ * waits at most {@code followerTimeout} and then runs the loader itself, so a stuck leader only
+ * holds up its own caller. Values are handed to several threads and should be immutable.
+ * Each lookup is counted once when it finishes: as loaded, collapsed into another load, or
+ * timed out and loaded on its own.
+ */
+public class SingleFlight<K, V> {
+
+	private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+	private final Duration followerTimeout;
+	private final Counter loads;
+	private final Counter collapsed;
+	private final Counter timedOut;
+	private final AtomicInteger waiting = new AtomicInteger();
+
+	public SingleFlight(String name, Duration followerTimeout, MeterRegistry meterRegistry) {
+		this.followerTimeout = followerTimeout;
+		this.loads = Counter.builder("app.single-flight.requests")
+				.description("Lookups that went through a single-flight group, by whether they ran the load")
+				.tag("name", name)
+				.tag("result", "loaded")
+				.register(meterRegistry);
+		this.collapsed = Counter.builder("app.single-flight.requests")
+				.description("Lookups that went through a single-flight group, by whether they ran the load")
+				.tag("name", name)
+				.tag("result", "collapsed")
+				.register(meterRegistry);
+		this.timedOut = Counter.builder("app.single-flight.requests")
+				.description("Lookups that went through a single-flight group, by whether they ran the load")
+				.tag("name", name)
+				.tag("result", "timed-out")
+				.register(meterRegistry);
+		Gauge.builder("app.single-flight.waiting", waiting, AtomicInteger::get)
+				.description("Lookups currently waiting for another caller's load")
+				.tag("name", name)
+				.register(meterRegistry);
+	}
+
+	public V load(K key, Supplier<V> loader) {
+		CompletableFuture<V> future = new CompletableFuture<>();
+		CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+		if (existing != null) {
+			return await(existing, loader);
+		}
+
+		loads.increment();
+		try {
+			V value = loader.get();
+			inFlight.remove(key, future);
+			future.complete(value);
+			return value;
+		} catch (RuntimeException | Error e) {
+			inFlight.remove(key, future);
+			future.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private V await(CompletableFuture<V> future, Supplier<V> loader) {
+		try {
+			V value = waitFor(future);
+			collapsed.increment();
+			return value;
+		} catch (TimeoutException e) {
+			timedOut.increment();
+			return loader.get();
+		} catch (ExecutionException e) {
+			collapsed.increment();
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			if (e.getCause() instanceof Error cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	private V waitFor(CompletableFuture<V> future) throws TimeoutException, ExecutionException {
+		waiting.incrementAndGet();
+		try {
+			return future.get(followerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for an in-flight load", e);
+		} finally {
+			waiting.decrementAndGet();
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.pohribnyi.insurance.util.exception;
+
+import java.time.Duration;
+
+import lombok.Getter;
+
+@Getter
+public class BulkheadFullException extends RuntimeException {
+
+	private final Duration retryAfter;
+	private final boolean waitedForPermit;
+
+	public BulkheadFullException(String message, Duration retryAfter, boolean waitedForPermit) {
+		super(message);
+		this.retryAfter = retryAfter;
+		this.waitedForPermit = waitedForPermit;
+	}
+
+}
@@ -0,0 +1,9 @@
+package com.pohribnyi.insurance.util.exception;
+
+public class IdempotencyKeyConflictException extends RuntimeException {
+
+	public IdempotencyKeyConflictException(String message) {
+		super(message);
+	}
+
+}
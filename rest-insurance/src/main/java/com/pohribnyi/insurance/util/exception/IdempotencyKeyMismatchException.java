@@ -0,0 +1,9 @@
+package com.pohribnyi.insurance.util.exception;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+	public IdempotencyKeyMismatchException(String message) {
+		super(message);
+	}
+
+}
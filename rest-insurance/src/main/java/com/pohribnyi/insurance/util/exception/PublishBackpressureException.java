@@ -0,0 +1,9 @@
+package com.pohribnyi.insurance.util.exception;
+
+public class PublishBackpressureException extends RuntimeException {
+
+	public PublishBackpressureException(String message) {
+		super(message);
+	}
+
+}
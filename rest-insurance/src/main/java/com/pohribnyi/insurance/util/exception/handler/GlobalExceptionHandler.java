@@ -3,16 +3,25 @@ package com.pohribnyi.insurance.util.exception.handler;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
+import org.springframework.validation.method.ParameterErrors;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import com.pohribnyi.insurance.dto.response.ErrorResponseDTO;
+import com.pohribnyi.insurance.util.exception.BulkheadFullException;
 import com.pohribnyi.insurance.util.exception.DuplicateResourceException;
+import com.pohribnyi.insurance.util.exception.IdempotencyKeyConflictException;
+import com.pohribnyi.insurance.util.exception.IdempotencyKeyMismatchException;
 import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
 import com.pohribnyi.insurance.util.exception.ValidationException;
 
@@ -21,6 +30,9 @@ import jakarta.servlet.http.HttpServletRequest;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+	private static final String UNIQUE_VIOLATION = "23505";
+	private static final Set<String> POLICY_NUMBER_CONSTRAINTS = Set.of("policy_numbers_pkey", "uk_policy_number");
+
 	@ExceptionHandler(ResourceNotFoundException.class)
 	public ResponseEntity<ErrorResponseDTO> handleResourceNotFound(ResourceNotFoundException ex,
 			HttpServletRequest request) {
@@ -51,6 +63,77 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
 	}
 
+	// Reached when a concurrent request wins the race a service-level pre-check cannot close,
+	// e.g. two creates of the same policy number hitting the policy_numbers primary key.
+	// Other integrity violations are bugs, not conflicts, and are reported as such
+	@ExceptionHandler(DataIntegrityViolationException.class)
+	public ResponseEntity<ErrorResponseDTO> handleDataIntegrityViolation(DataIntegrityViolationException ex,
+			HttpServletRequest request) {
+
+		if (!isPolicyNumberConflict(ex)) {
+			return handleGenericException(ex, request);
+		}
+
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				HttpStatus.CONFLICT.value(), 
+				"Conflict",
+				"Policy number already exists", 
+				request.getRequestURI(), 
+				null);
+
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+	}
+
+	@ExceptionHandler(IdempotencyKeyConflictException.class)
+	public ResponseEntity<ErrorResponseDTO> handleIdempotencyKeyConflict(IdempotencyKeyConflictException ex,
+			HttpServletRequest request) {
+
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				HttpStatus.CONFLICT.value(), 
+				"Conflict",
+				ex.getMessage(), 
+				request.getRequestURI(), 
+				null);
+
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+	}
+
+	@ExceptionHandler(IdempotencyKeyMismatchException.class)
+	public ResponseEntity<ErrorResponseDTO> handleIdempotencyKeyMismatch(IdempotencyKeyMismatchException ex,
+			HttpServletRequest request) {
+
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				HttpStatus.UNPROCESSABLE_ENTITY.value(), 
+				"Unprocessable Entity",
+				ex.getMessage(), 
+				request.getRequestURI(), 
+				null);
+
+		return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+	}
+
+	@ExceptionHandler(BulkheadFullException.class)
+	public ResponseEntity<ErrorResponseDTO> handleBulkheadFull(BulkheadFullException ex, HttpServletRequest request) {
+
+		// A full queue means this client should back off, a timed out wait means the service is saturated
+		HttpStatus status = ex.isWaitedForPermit() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.TOO_MANY_REQUESTS;
+
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				status.value(), 
+				status.getReasonPhrase(),
+				ex.getMessage(), 
+				request.getRequestURI(), 
+				null);
+
+		return ResponseEntity.status(status)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+				.body(error);
+	}
+
 	@ExceptionHandler(ValidationException.class)
 	public ResponseEntity<ErrorResponseDTO> handleValidation(ValidationException ex, HttpServletRequest request) {
 
@@ -88,6 +171,34 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.badRequest().body(error);
 	}
 
+	// Raised instead of MethodArgumentNotValidException when a handler also constrains path variables
+	@ExceptionHandler(HandlerMethodValidationException.class)
+	public ResponseEntity<ErrorResponseDTO> handleMethodValidationErrors(HandlerMethodValidationException ex,
+			HttpServletRequest request) {
+
+		Map<String, String> validationErrors = new HashMap<>();
+
+		ex.getParameterValidationResults().forEach(result -> {
+			if (result instanceof ParameterErrors errors) {
+				errors.getFieldErrors().forEach(
+						error -> validationErrors.put(error.getField(), error.getDefaultMessage()));
+			} else {
+				result.getResolvableErrors().forEach(error -> validationErrors
+						.put(result.getMethodParameter().getParameterName(), error.getDefaultMessage()));
+			}
+		});
+
+		ErrorResponseDTO error = new ErrorResponseDTO(
+				LocalDateTime.now(), 
+				HttpStatus.BAD_REQUEST.value(),
+				"Validation Failed", 
+				"Invalid request parameters", 
+				request.getRequestURI(), 
+				validationErrors);
+
+		return ResponseEntity.badRequest().body(error);
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ErrorResponseDTO> handleGenericException(Exception ex, HttpServletRequest request) {
 
@@ -101,4 +212,14 @@ public class GlobalExceptionHandler {
 
 		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(error);
 	}
+
+	private static boolean isPolicyNumberConflict(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation) {
+				return UNIQUE_VIOLATION.equals(violation.getSQLState())
+						&& POLICY_NUMBER_CONSTRAINTS.contains(violation.getConstraintName());
+			}
+		}
+		return false;
+	}
 }
\ No newline at end of file
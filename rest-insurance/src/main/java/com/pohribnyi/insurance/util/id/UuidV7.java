@@ -0,0 +1,36 @@
+package com.pohribnyi.insurance.util.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RFC 9562 version 7 UUIDs: a 48-bit Unix millisecond timestamp followed by a
+ * 12-bit sequence and 62 random bits. Values generated by one JVM are strictly
+ * increasing, so new rows are appended to the right edge of a B-tree index.
+ */
+public final class UuidV7 {
+
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private static final int SEQUENCE_BITS = 12;
+
+	// (unix millis << SEQUENCE_BITS) | sequence of the last generated value
+	private static final AtomicLong LAST_STATE = new AtomicLong();
+
+	private UuidV7() {
+	}
+
+	public static UUID randomUuid() {
+		long now = System.currentTimeMillis() << SEQUENCE_BITS;
+		long state = LAST_STATE.updateAndGet(last -> now > last ? now : last + 1);
+
+		long timestamp = state >>> SEQUENCE_BITS;
+		long sequence = state & ((1L << SEQUENCE_BITS) - 1);
+
+		long mostSigBits = (timestamp << 16) | 0x7000L | sequence;
+		long leastSigBits = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.pohribnyi.insurance.util.sql;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes a SQL statement into a fingerprint shared by every execution of the same
+ * query shape: comments dropped, literals and placeholders replaced by {@code ?},
+ * IN-lists collapsed and whitespace squeezed. Literal values never survive, so the
+ * fingerprint is safe to log and to expose.
+ */
+public final class SqlFingerprint {
+
+	private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+	private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+	private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+	private static final Pattern POSITIONAL_PARAMETER = Pattern.compile("\\$\\d+");
+	private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+	private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private SqlFingerprint() {
+	}
+
+	public static String of(String sql) {
+		String normalized = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+		normalized = LINE_COMMENT.matcher(normalized).replaceAll(" ");
+		normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+		normalized = POSITIONAL_PARAMETER.matcher(normalized).replaceAll("?");
+		normalized = NUMERIC_LITERAL.matcher(normalized).replaceAll("?");
+		normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+		return WHITESPACE.matcher(normalized).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+	}
+
+	public static String id(String fingerprint) {
+		return "%08x".formatted(fingerprint.hashCode());
+	}
+
+}
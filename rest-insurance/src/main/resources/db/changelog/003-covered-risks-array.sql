@@ -0,0 +1,22 @@
+--liquibase formatted sql
+
+--changeset maksymus:005-covered-risks-array-20261019
+ALTER TABLE insurance_policies ADD COLUMN covered_risks TEXT[] NOT NULL DEFAULT '{}';
+
+UPDATE insurance_policies p
+SET covered_risks = r.risks
+FROM (
+    -- The element collection had no order column, so the risks are sorted to make the backfill deterministic
+    SELECT policy_id, array_agg(covered_risks ORDER BY covered_risks) AS risks
+    FROM policy_covered_risks
+    WHERE covered_risks IS NOT NULL
+    GROUP BY policy_id
+) r
+WHERE p.id = r.policy_id;
+
+CREATE INDEX idx_policy_covered_risks ON insurance_policies USING GIN (covered_risks);
+-- rollback DROP INDEX idx_policy_covered_risks; ALTER TABLE insurance_policies DROP COLUMN covered_risks;
+
+--changeset maksymus:006-drop-policy-covered-risks-20261019
+DROP TABLE policy_covered_risks;
+-- rollback CREATE TABLE policy_covered_risks (policy_id UUID NOT NULL, covered_risks VARCHAR(255), CONSTRAINT fk_risks_policy FOREIGN KEY (policy_id) REFERENCES insurance_policies(id)); INSERT INTO policy_covered_risks (policy_id, covered_risks) SELECT id, unnest(covered_risks) FROM insurance_policies;
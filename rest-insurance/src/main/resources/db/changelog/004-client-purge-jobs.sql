@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset maksymus:007-client-purge-jobs-20261019
+CREATE TABLE client_purge_jobs (
+    id UUID PRIMARY KEY,
+    client_id UUID NOT NULL,
+    status VARCHAR(32) NOT NULL,
+    total_policies BIGINT NOT NULL,
+    deleted_policies BIGINT NOT NULL,
+    error_message VARCHAR(1024),
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_purge_job_client_status ON client_purge_jobs(client_id, status);
+-- rollback DROP TABLE client_purge_jobs;
@@ -0,0 +1,31 @@
+--liquibase formatted sql
+
+--changeset maksymus:008-partition-insurance-policies-20261019
+CREATE TABLE insurance_policies_partitioned (
+    id UUID NOT NULL,
+    policy_number VARCHAR(255) NOT NULL,
+    policy_type VARCHAR(255),
+    start_date DATE,
+    end_date DATE,
+    client_id UUID NOT NULL,
+    covered_risks TEXT[] NOT NULL DEFAULT '{}',
+    archived BOOLEAN NOT NULL DEFAULT FALSE,
+    CONSTRAINT pk_insurance_policies PRIMARY KEY (id, archived),
+    CONSTRAINT uk_policy_number UNIQUE (policy_number, archived),
+    CONSTRAINT fk_policy_client FOREIGN KEY (client_id) REFERENCES clients(id)
+) PARTITION BY LIST (archived);
+
+CREATE TABLE insurance_policies_active PARTITION OF insurance_policies_partitioned FOR VALUES IN (FALSE);
+CREATE TABLE insurance_policies_archive PARTITION OF insurance_policies_partitioned FOR VALUES IN (TRUE);
+
+INSERT INTO insurance_policies_partitioned (id, policy_number, policy_type, start_date, end_date, client_id, covered_risks)
+SELECT id, policy_number, policy_type, start_date, end_date, client_id, covered_risks FROM insurance_policies;
+
+DROP TABLE insurance_policies;
+ALTER TABLE insurance_policies_partitioned RENAME TO insurance_policies;
+
+CREATE INDEX idx_policy_type ON insurance_policies(policy_type);
+CREATE INDEX idx_client_id ON insurance_policies(client_id);
+CREATE INDEX idx_policy_end_date ON insurance_policies(end_date);
+CREATE INDEX idx_policy_covered_risks ON insurance_policies USING GIN (covered_risks);
+-- rollback CREATE TABLE insurance_policies_plain (id UUID PRIMARY KEY, policy_number VARCHAR(255) NOT NULL UNIQUE, policy_type VARCHAR(255), start_date DATE, end_date DATE, client_id UUID NOT NULL, covered_risks TEXT[] NOT NULL DEFAULT '{}', CONSTRAINT fk_policy_client FOREIGN KEY (client_id) REFERENCES clients(id)); INSERT INTO insurance_policies_plain (id, policy_number, policy_type, start_date, end_date, client_id, covered_risks) SELECT id, policy_number, policy_type, start_date, end_date, client_id, covered_risks FROM insurance_policies; DROP TABLE insurance_policies; ALTER TABLE insurance_policies_plain RENAME TO insurance_policies; CREATE INDEX idx_policy_number ON insurance_policies(policy_number); CREATE INDEX idx_policy_type ON insurance_policies(policy_type); CREATE INDEX idx_client_id ON insurance_policies(client_id); CREATE INDEX idx_policy_covered_risks ON insurance_policies USING GIN (covered_risks);
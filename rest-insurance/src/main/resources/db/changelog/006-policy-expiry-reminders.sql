@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset maksymus:009-policy-expiry-reminders-20261019
+CREATE TABLE policy_expiry_reminders (
+    id UUID PRIMARY KEY,
+    policy_id UUID NOT NULL,
+    end_date DATE NOT NULL,
+    client_id UUID NOT NULL,
+    sent_at TIMESTAMP NOT NULL,
+    CONSTRAINT uk_reminder_policy_end_date UNIQUE (policy_id, end_date)
+);
+CREATE INDEX idx_policy_active_end_date_id ON insurance_policies_active(end_date, id);
+-- rollback DROP INDEX idx_policy_active_end_date_id; DROP TABLE policy_expiry_reminders;
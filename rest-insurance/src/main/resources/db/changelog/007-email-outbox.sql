@@ -0,0 +1,15 @@
+--liquibase formatted sql
+
+--changeset maksymus:010-email-outbox-20261019
+CREATE TABLE email_outbox (
+    id UUID PRIMARY KEY,
+    message_key VARCHAR(255) NOT NULL,
+    payload JSONB NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1024),
+    created_at TIMESTAMP NOT NULL
+);
+CREATE INDEX idx_email_outbox_next_attempt ON email_outbox(next_attempt_at, id);
+CREATE INDEX idx_email_outbox_key ON email_outbox(message_key, id);
+-- rollback DROP TABLE email_outbox;
@@ -0,0 +1,16 @@
+--liquibase formatted sql
+
+--changeset maksymus:011-generic-outbox-20261019
+ALTER TABLE email_outbox RENAME TO outbox_messages;
+ALTER TABLE outbox_messages ADD COLUMN topic VARCHAR(255);
+UPDATE outbox_messages SET topic = 'email-sending-tasks';
+ALTER TABLE outbox_messages ALTER COLUMN topic SET NOT NULL;
+DROP INDEX idx_email_outbox_key;
+ALTER INDEX idx_email_outbox_next_attempt RENAME TO idx_outbox_next_attempt;
+CREATE INDEX idx_outbox_topic_key ON outbox_messages(topic, message_key, id);
+-- rollback DROP INDEX idx_outbox_topic_key; ALTER INDEX idx_outbox_next_attempt RENAME TO idx_email_outbox_next_attempt; DELETE FROM outbox_messages WHERE topic <> 'email-sending-tasks'; ALTER TABLE outbox_messages DROP COLUMN topic; ALTER TABLE outbox_messages RENAME TO email_outbox; CREATE INDEX idx_email_outbox_key ON email_outbox(message_key, id);
+
+--changeset maksymus:012-entity-versions-20261019
+ALTER TABLE clients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE insurance_policies ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+-- rollback ALTER TABLE insurance_policies DROP COLUMN version; ALTER TABLE clients DROP COLUMN version;
@@ -0,0 +1,32 @@
+--liquibase formatted sql
+
+--changeset maksymus:013-policy-numbers-20261019
+-- uk_policy_number only holds per partition, so this table keeps policy numbers unique across both
+CREATE TABLE policy_numbers (
+    policy_number VARCHAR(255) PRIMARY KEY,
+    policy_id UUID NOT NULL
+);
+INSERT INTO policy_numbers (policy_number, policy_id) SELECT policy_number, id FROM insurance_policies;
+-- rollback DROP TABLE policy_numbers;
+
+--changeset maksymus:014-policy-numbers-trigger-20261019 splitStatements:false
+-- Moving a row between partitions fires DELETE then INSERT, so archiving releases and reclaims its number
+CREATE FUNCTION sync_policy_number() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        DELETE FROM policy_numbers WHERE policy_number = OLD.policy_number AND policy_id = OLD.id;
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        INSERT INTO policy_numbers (policy_number, policy_id) VALUES (NEW.policy_number, NEW.id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_policy_number_insert AFTER INSERT ON insurance_policies
+    FOR EACH ROW EXECUTE FUNCTION sync_policy_number();
+CREATE TRIGGER trg_policy_number_delete AFTER DELETE ON insurance_policies
+    FOR EACH ROW EXECUTE FUNCTION sync_policy_number();
+CREATE TRIGGER trg_policy_number_update AFTER UPDATE OF policy_number ON insurance_policies
+    FOR EACH ROW WHEN (OLD.policy_number IS DISTINCT FROM NEW.policy_number) EXECUTE FUNCTION sync_policy_number();
+-- rollback DROP TRIGGER trg_policy_number_update ON insurance_policies; DROP TRIGGER trg_policy_number_delete ON insurance_policies; DROP TRIGGER trg_policy_number_insert ON insurance_policies; DROP FUNCTION sync_policy_number();
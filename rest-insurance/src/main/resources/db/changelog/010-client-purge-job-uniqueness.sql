@@ -0,0 +1,11 @@
+--liquibase formatted sql
+
+--changeset maksymus:015-client-purge-job-uniqueness-20261019
+-- At most one active purge per client, so concurrent starts cannot both insert a job
+UPDATE client_purge_jobs SET status = 'FAILED', error_message = 'Superseded by another active job'
+WHERE status IN ('PENDING', 'RUNNING') AND id NOT IN (
+    SELECT DISTINCT ON (client_id) id FROM client_purge_jobs
+    WHERE status IN ('PENDING', 'RUNNING')
+    ORDER BY client_id, created_at DESC);
+CREATE UNIQUE INDEX uk_purge_job_active_client ON client_purge_jobs(client_id) WHERE status IN ('PENDING', 'RUNNING');
+-- rollback DROP INDEX uk_purge_job_active_client;
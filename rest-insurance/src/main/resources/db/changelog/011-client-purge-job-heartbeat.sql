@@ -0,0 +1,10 @@
+--liquibase formatted sql
+
+--changeset maksymus:016-client-purge-job-heartbeat-20261019
+-- The worker that owns a job keeps heartbeat_at fresh while the job is queued or running; owner_token
+-- names that owner, so a job taken over as stale cannot be moved on by its old worker
+ALTER TABLE client_purge_jobs ADD COLUMN owner_token UUID;
+ALTER TABLE client_purge_jobs ADD COLUMN heartbeat_at TIMESTAMP;
+UPDATE client_purge_jobs SET heartbeat_at = updated_at;
+ALTER TABLE client_purge_jobs ALTER COLUMN heartbeat_at SET NOT NULL;
+-- rollback ALTER TABLE client_purge_jobs DROP COLUMN heartbeat_at; ALTER TABLE client_purge_jobs DROP COLUMN owner_token;
@@ -1,8 +1,11 @@
 package com.pohribnyi.insurance;
 
 import com.pohribnyi.insurance.messaging.EmailNotificationProducer;
+import com.pohribnyi.insurance.support.StatementRecorder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -14,11 +17,15 @@ import java.util.TimeZone;
 @SpringBootTest
 @AutoConfigureMockMvc
 @ActiveProfiles("test")
+@Import(StatementRecorder.class)
 public abstract class BaseIntegrationTest {
 
     @MockitoBean
     protected EmailNotificationProducer emailNotificationProducer;
 
+    @Autowired
+    protected StatementRecorder statementRecorder;
+
 	static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:15")
             .withDatabaseName("testdb")
             .withUsername("test")
@@ -0,0 +1,205 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.pohribnyi.insurance.ProfITsoftInsuranceRestApplication;
+import com.pohribnyi.insurance.benchmark.HttpLoadGenerator.Report;
+import com.pohribnyi.insurance.benchmark.SyntheticDataset.Dataset;
+import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+
+/**
+ * Loads a synthetic dataset with COPY and drives the main REST endpoints against it, reporting
+ * throughput and latency percentiles per endpoint. Run with
+ * {@code ./gradlew loadTest -Pbenchmark.clients=1000000 -Pbenchmark.policies=10000000}.
+ */
+@Tag("load-test")
+@DisplayName("REST API load test on a synthetic dataset")
+class ApiLoadTest {
+
+	private static final int CLIENTS = Integer.getInteger("benchmark.clients", 100_000);
+	private static final int POLICIES = Integer.getInteger("benchmark.policies", 1_000_000);
+	private static final long SEED = Long.getLong("benchmark.seed", 42L);
+	private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 64);
+	private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5_000);
+	// _report and upload do far more work per call, so they get a tenth of the request count
+	private static final int HEAVY_REQUESTS = Integer.getInteger("benchmark.heavyRequests", REQUESTS / 10);
+	private static final int UPLOAD_BATCH = Integer.getInteger("benchmark.uploadBatch", 50);
+	private static final int POOL_SIZE = Integer.getInteger("benchmark.poolSize", 40);
+	private static final Path REPORT_FILE = Path.of(System.getProperty("benchmark.reportFile",
+			"build/reports/load-test/results.csv"));
+
+	static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:15")
+			.withDatabaseName("loaddb")
+			.withUsername("test")
+			.withPassword("test")
+			.withCommand("postgres", "-c", "fsync=off", "-c", "shared_buffers=512MB", "-c", "max_wal_size=8GB");
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	private final AtomicLong uploadSequence = new AtomicLong();
+
+	@BeforeAll
+	static void startContainer() {
+		POSTGRE_SQL_CONTAINER.start();
+	}
+
+	@AfterAll
+	static void stopContainer() {
+		POSTGRE_SQL_CONTAINER.stop();
+	}
+
+	@Test
+	@DisplayName("Measure throughput and latency percentiles per endpoint")
+	void measureEndpoints() throws Exception {
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				ProfITsoftInsuranceRestApplication.class)
+				.profiles("test")
+				.properties(
+						"server.port=0",
+						"spring.datasource.url=" + POSTGRE_SQL_CONTAINER.getJdbcUrl(),
+						"spring.datasource.username=" + POSTGRE_SQL_CONTAINER.getUsername(),
+						"spring.datasource.password=" + POSTGRE_SQL_CONTAINER.getPassword(),
+						"spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+						"spring.jpa.properties.hibernate.generate_statistics=false",
+						// Queue every client at the bulkheads instead of shedding, so the run measures throughput
+						"app.bulkhead.interactive.max-concurrent=" + POOL_SIZE,
+						"app.bulkhead.interactive.max-queued=" + CONCURRENCY,
+						"app.bulkhead.interactive.max-wait=1m",
+						"app.bulkhead.report.max-queued=" + CONCURRENCY,
+						"app.bulkhead.report.max-wait=1m",
+						"app.bulkhead.upload.max-queued=" + CONCURRENCY,
+						"app.bulkhead.upload.max-wait=1m",
+						"app.outbox.relay.enabled=false")
+				.run()) {
+
+			Dataset dataset = generate();
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api";
+			SplittableRandom seed = new SplittableRandom(SEED);
+
+			Map<String, Function<SplittableRandom, HttpRequest>> scenarios = new LinkedHashMap<>();
+			scenarios.put("GET policy/{id}", random -> HttpRequest.newBuilder(URI.create(baseUrl + "/insurance_policy/"
+					+ dataset.policyIds().get(random.nextInt(dataset.policyIds().size())))).build());
+			scenarios.put("POST policy/_list", random -> postJson(baseUrl + "/insurance_policy/_list",
+					listRequest(dataset, random)));
+			scenarios.put("GET client", random -> HttpRequest.newBuilder(URI.create(baseUrl + "/client?size=20&after="
+					+ dataset.clientIds().get(random.nextInt(dataset.clientIds().size())))).build());
+			scenarios.put("POST policy/_report", random -> postJson(baseUrl + "/insurance_policy/_report",
+					new PolicyPageableRequestDTO(randomClient(dataset, random), null, null, null, null, 0, 20)));
+			scenarios.put("POST policy/upload", random -> upload(baseUrl + "/insurance_policy/upload", dataset, random));
+
+			List<Report> reports = new ArrayList<>();
+			for (Map.Entry<String, Function<SplittableRandom, HttpRequest>> scenario : scenarios.entrySet()) {
+				int requests = scenario.getKey().contains("_report") || scenario.getKey().contains("upload")
+						? HEAVY_REQUESTS : REQUESTS;
+				HttpLoadGenerator.run(scenario.getKey(), CONCURRENCY, Math.max(1, requests / 10), seed.split(),
+						scenario.getValue());
+				reports.add(HttpLoadGenerator.run(scenario.getKey(), CONCURRENCY, requests, seed.split(),
+						scenario.getValue()));
+			}
+
+			System.out.printf("%d clients, %d policies, concurrency %d%n", CLIENTS, POLICIES, CONCURRENCY);
+			HttpLoadGenerator.print(System.out, reports);
+			HttpLoadGenerator.writeCsv(REPORT_FILE, reports);
+			System.out.println("Report written to " + REPORT_FILE.toAbsolutePath());
+		}
+	}
+
+	private Dataset generate() throws Exception {
+		try (Connection connection = DriverManager.getConnection(
+				POSTGRE_SQL_CONTAINER.getJdbcUrl(),
+				POSTGRE_SQL_CONTAINER.getUsername(),
+				POSTGRE_SQL_CONTAINER.getPassword())) {
+			long started = System.nanoTime();
+			Dataset dataset = SyntheticDataset.generate(connection, CLIENTS, POLICIES, SEED);
+			System.out.printf("Generated %d clients and %d policies in %.1f s%n", CLIENTS, POLICIES,
+					(System.nanoTime() - started) / 1_000_000_000d);
+			return dataset;
+		}
+	}
+
+	private PolicyPageableRequestDTO listRequest(Dataset dataset, SplittableRandom random) {
+		int page = random.nextInt(5);
+		return switch (random.nextInt(3)) {
+			case 0 -> new PolicyPageableRequestDTO(randomClient(dataset, random), null, null, null, null, 0, 20);
+			case 1 -> new PolicyPageableRequestDTO(null, SyntheticDataset.policyType(random), null,
+					SyntheticDataset.risk(random), null, page, 20);
+			default -> new PolicyPageableRequestDTO(null, SyntheticDataset.policyType(random), null, null, null, page,
+					20);
+		};
+	}
+
+	private UUID randomClient(Dataset dataset, SplittableRandom random) {
+		return dataset.clientIds().get(SyntheticDataset.skewedIndex(dataset.clientIds().size(), random));
+	}
+
+	private HttpRequest upload(String url, Dataset dataset, SplittableRandom random) {
+		LocalDate startDate = LocalDate.now().plusDays(1);
+		List<CreateInsurancePolicyRequestDTO> policies = IntStream.range(0, UPLOAD_BATCH)
+				.mapToObj(i -> new CreateInsurancePolicyRequestDTO(
+						"UPLOAD-" + uploadSequence.incrementAndGet(),
+						SyntheticDataset.policyType(random),
+						startDate,
+						startDate.plusYears(1),
+						List.of(SyntheticDataset.risk(random)),
+						randomClient(dataset, random)))
+				.toList();
+
+		String boundary = "load-test-" + UUID.randomUUID();
+		String body = "--" + boundary + "\r\n"
+				+ "Content-Disposition: form-data; name=\"file\"; filename=\"upload.json\"\r\n"
+				+ "Content-Type: application/json\r\n\r\n"
+				+ toJson(policies) + "\r\n"
+				+ "--" + boundary + "--\r\n";
+		return HttpRequest.newBuilder(URI.create(url))
+				.header("Content-Type", "multipart/form-data; boundary=" + boundary)
+				.POST(BodyPublishers.ofString(body))
+				.build();
+	}
+
+	private HttpRequest postJson(String url, Object payload) {
+		return HttpRequest.newBuilder(URI.create(url))
+				.header("Content-Type", "application/json")
+				.POST(BodyPublishers.ofString(toJson(payload)))
+				.build();
+	}
+
+	private String toJson(Object payload) {
+		try {
+			return objectMapper.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
@@ -0,0 +1,128 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Closed-loop HTTP load: {@code concurrency} workers on virtual threads each build and send one
+ * request at a time until {@code requests} have completed, recording the latency of each one. Any non-2xx response or
+ * I/O failure counts as an error.
+ */
+final class HttpLoadGenerator {
+
+	private HttpLoadGenerator() {
+	}
+
+	static Report run(String endpoint, int concurrency, int requests, Supplier<HttpRequest> nextRequest)
+			throws InterruptedException {
+		return run(endpoint, concurrency, requests, new SplittableRandom(), random -> nextRequest.get());
+	}
+
+	// Each worker draws from its own split of the given random, split up front in worker order,
+	// so every worker sees the same request sequence from run to run
+	static Report run(String endpoint, int concurrency, int requests, SplittableRandom random,
+			Function<SplittableRandom, HttpRequest> nextRequest) throws InterruptedException {
+		long[] latencies = new long[requests];
+		AtomicLong errors = new AtomicLong();
+		AtomicInteger nextIndex = new AtomicInteger();
+		List<SplittableRandom> workerRandoms = new ArrayList<>(concurrency);
+		for (int i = 0; i < concurrency; i++) {
+			workerRandoms.add(random.split());
+		}
+
+		try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+				HttpClient client = HttpClient.newBuilder()
+						.version(HttpClient.Version.HTTP_1_1)
+						.executor(executor)
+						.build()) {
+			long started = System.nanoTime();
+			List<Future<?>> workers = new ArrayList<>(concurrency);
+			for (SplittableRandom workerRandom : workerRandoms) {
+				workers.add(executor.submit(() -> {
+					int index;
+					while ((index = nextIndex.getAndIncrement()) < requests) {
+						HttpRequest request = nextRequest.apply(workerRandom);
+						long sent = System.nanoTime();
+						try {
+							HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+							if (response.statusCode() / 100 != 2) {
+								errors.incrementAndGet();
+							}
+						} catch (IOException e) {
+							errors.incrementAndGet();
+						} catch (InterruptedException e) {
+							errors.incrementAndGet();
+							Thread.currentThread().interrupt();
+							return;
+						} finally {
+							latencies[index] = System.nanoTime() - sent;
+						}
+					}
+				}));
+			}
+			for (Future<?> worker : workers) {
+				try {
+					worker.get();
+				} catch (ExecutionException e) {
+					throw new IllegalStateException("Load worker failed for " + endpoint, e.getCause());
+				}
+			}
+			return new Report(endpoint, requests, errors.get(), System.nanoTime() - started, latencies);
+		}
+	}
+
+	static void print(PrintStream out, List<Report> reports) {
+		out.printf("%-24s %10s %10s %12s %10s %10s %10s %10s%n", "endpoint", "requests", "errors", "req/s",
+				"p50 ms", "p95 ms", "p99 ms", "max ms");
+		for (Report report : reports) {
+			out.printf("%-24s %10d %10d %12.0f %10.1f %10.1f %10.1f %10.1f%n", report.endpoint(), report.requests(),
+					report.errors(), report.throughput(), report.percentileMillis(0.50),
+					report.percentileMillis(0.95), report.percentileMillis(0.99), report.percentileMillis(1.0));
+		}
+	}
+
+	static void writeCsv(Path file, List<Report> reports) throws IOException {
+		List<String> lines = new ArrayList<>();
+		lines.add("endpoint,requests,errors,throughput_rps,p50_ms,p95_ms,p99_ms,max_ms");
+		for (Report report : reports) {
+			lines.add(String.format(Locale.ROOT, "%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f", report.endpoint(),
+					report.requests(), report.errors(), report.throughput(), report.percentileMillis(0.50),
+					report.percentileMillis(0.95), report.percentileMillis(0.99), report.percentileMillis(1.0)));
+		}
+		Files.createDirectories(file.toAbsolutePath().getParent());
+		Files.write(file, lines);
+	}
+
+	record Report(String endpoint, int requests, long errors, long nanos, long[] latencies) {
+
+		double throughput() {
+			return requests / (nanos / 1_000_000_000d);
+		}
+
+		double percentileMillis(double percentile) {
+			long[] sorted = latencies.clone();
+			Arrays.sort(sorted);
+			return sorted[(int) Math.ceil(percentile * sorted.length) - 1] / 1_000_000d;
+		}
+
+	}
+
+}
@@ -0,0 +1,176 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+@Tag("benchmark")
+@DisplayName("Startup time and RSS benchmark")
+class StartupBenchmark {
+
+	private static final int RUNS = Integer.getInteger("benchmark.runs", 5);
+	private static final boolean AOT = Boolean.getBoolean("benchmark.aot");
+	private static final Path JAR = Path.of(System.getProperty("benchmark.jar", "build/libs/rest-insurance-1.0.0.jar"));
+
+	private static final Pattern STARTED = Pattern.compile(
+			"Started \\S+ in ([\\d.]+) seconds \\(process running for ([\\d.]+)\\)");
+	private static final Pattern VM_RSS = Pattern.compile("VmRSS:\\s+(\\d+) kB");
+
+	static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:15")
+			.withDatabaseName("benchdb")
+			.withUsername("test")
+			.withPassword("test");
+
+	@TempDir
+	static Path workDir;
+
+	@BeforeAll
+	static void startContainer() {
+		POSTGRE_SQL_CONTAINER.start();
+	}
+
+	@AfterAll
+	static void stopContainer() {
+		POSTGRE_SQL_CONTAINER.stop();
+	}
+
+	@Test
+	@DisplayName("Compare startup of the plain jar, the extracted jar with CDS and the AOT build")
+	void compareStartupModes() throws Exception {
+		// The first start applies the changelog, so every measured run sees the same schema
+		start(List.of(), JAR);
+
+		List<Result> results = new ArrayList<>();
+		results.add(measure("jar", List.of(), JAR));
+		results.add(measure("jar-no-liquibase", List.of("-Dspring.liquibase.enabled=false"), JAR));
+
+		Path extracted = extract();
+		Path archive = workDir.resolve("app.jsa");
+		List<String> cds = new ArrayList<>(List.of("-Dspring.liquibase.enabled=false"));
+		if (AOT) {
+			cds.add("-Dspring.aot.enabled=true");
+		}
+		train(cds, archive, extracted);
+		cds.add("-XX:SharedArchiveFile=" + archive);
+		results.add(measure(AOT ? "extracted-cds-aot" : "extracted-cds", cds, extracted));
+
+		System.out.printf("%-20s %6s %14s %14s %10s%n", "mode", "runs", "context ms", "process ms", "rss MB");
+		for (Result result : results) {
+			System.out.printf("%-20s %6d %14.0f %14.0f %10.1f%n", result.mode(), RUNS, result.contextMillis(),
+					result.processMillis(), result.rssKb() / 1024d);
+		}
+	}
+
+	private Result measure(String mode, List<String> jvmArgs, Path jar) throws Exception {
+		List<Sample> samples = new ArrayList<>();
+		for (int i = 0; i < RUNS; i++) {
+			samples.add(start(jvmArgs, jar));
+		}
+		return new Result(mode,
+				median(samples.stream().mapToDouble(Sample::contextMillis).toArray()),
+				median(samples.stream().mapToDouble(Sample::processMillis).toArray()),
+				median(samples.stream().mapToDouble(Sample::rssKb).toArray()));
+	}
+
+	private Sample start(List<String> jvmArgs, Path jar) throws Exception {
+		Process process = new ProcessBuilder(command(jvmArgs, jar))
+				.redirectErrorStream(true)
+				.start();
+		try (BufferedReader output = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+			String line;
+			while ((line = output.readLine()) != null) {
+				Matcher started = STARTED.matcher(line);
+				if (started.find()) {
+					return new Sample(Double.parseDouble(started.group(1)) * 1000,
+							Double.parseDouble(started.group(2)) * 1000, rssKb(process.pid()));
+				}
+			}
+			throw new IllegalStateException("Application exited with " + process.waitFor() + " before starting");
+		} finally {
+			process.destroy();
+			if (!process.waitFor(30, TimeUnit.SECONDS)) {
+				process.destroyForcibly();
+			}
+		}
+	}
+
+	private void train(List<String> jvmArgs, Path archive, Path jar) throws Exception {
+		List<String> trainingArgs = new ArrayList<>(jvmArgs);
+		trainingArgs.add("-XX:ArchiveClassesAtExit=" + archive);
+		trainingArgs.add("-Dspring.context.exit=onRefresh");
+		run(command(trainingArgs, jar));
+	}
+
+	private Path extract() throws Exception {
+		Path destination = workDir.resolve("extracted");
+		run(List.of(java(), "-Djarmode=tools", "-jar", JAR.toString(), "extract", "--destination",
+				destination.toString()));
+		return destination.resolve(JAR.getFileName());
+	}
+
+	private List<String> command(List<String> jvmArgs, Path jar) {
+		List<String> command = new ArrayList<>();
+		command.add(java());
+		command.addAll(jvmArgs);
+		command.add("-jar");
+		command.add(jar.toString());
+		command.add("--server.port=0");
+		command.add("--spring.datasource.url=" + POSTGRE_SQL_CONTAINER.getJdbcUrl());
+		command.add("--spring.datasource.username=" + POSTGRE_SQL_CONTAINER.getUsername());
+		command.add("--spring.datasource.password=" + POSTGRE_SQL_CONTAINER.getPassword());
+		command.add("--spring.cloud.consul.enabled=false");
+		command.add("--app.outbox.relay.enabled=false");
+		return command;
+	}
+
+	private void run(List<String> command) throws Exception {
+		Process process = new ProcessBuilder(command)
+				.redirectErrorStream(true)
+				.redirectOutput(ProcessBuilder.Redirect.DISCARD)
+				.start();
+		int exitCode = process.waitFor();
+		if (exitCode != 0) {
+			throw new IllegalStateException("Command " + command + " exited with " + exitCode);
+		}
+	}
+
+	private String java() {
+		return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+	}
+
+	private long rssKb(long pid) throws IOException {
+		Matcher matcher = VM_RSS.matcher(Files.readString(Path.of("/proc", String.valueOf(pid), "status")));
+		return matcher.find() ? Long.parseLong(matcher.group(1)) : -1;
+	}
+
+	private double median(double[] values) {
+		double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		return sorted[sorted.length / 2];
+	}
+
+	private record Sample(double contextMillis, double processMillis, long rssKb) {
+	}
+
+	private record Result(String mode, double contextMillis, double processMillis, double rssKb) {
+	}
+
+}
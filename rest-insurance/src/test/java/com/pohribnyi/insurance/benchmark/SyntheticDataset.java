@@ -0,0 +1,167 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import com.pohribnyi.insurance.util.id.UuidV7;
+
+/**
+ * Bulk-loads a reproducible, production-shaped dataset into a migrated schema with
+ * {@code COPY ... FROM STDIN}. Distributions are deliberately uneven: a few clients own most
+ * policies, policy types and covered risks follow a long tail, and policies whose term ended
+ * more than a year ago sit in the archive partition as {@code PolicyArchiveService} would leave them.
+ */
+final class SyntheticDataset {
+
+	private static final int COPY_CHUNK_BYTES = 1 << 20;
+	private static final int SAMPLED_POLICY_IDS = 100_000;
+
+	// Cumulative weights
+	private static final String[] POLICY_TYPES = { "Health", "Auto", "Home", "Life", "Travel", "Business" };
+	private static final double[] POLICY_TYPE_WEIGHTS = { 0.40, 0.65, 0.80, 0.92, 0.98, 1.0 };
+
+	private static final String[] RISKS = { "Medical", "Collision", "Theft", "Fire", "Flood", "Dental", "Liability",
+			"Death", "Disability", "Baggage", "Earthquake", "Cyber" };
+
+	private static final String[] FIRST_NAMES = { "Olena", "Andrii", "Iryna", "Taras", "Mariia", "Dmytro", "Sofiia",
+			"Oleksandr", "Kateryna", "Maksym" };
+	private static final String[] LAST_NAMES = { "Shevchenko", "Kovalenko", "Bondarenko", "Tkachenko", "Kravchenko",
+			"Melnyk", "Boiko", "Koval", "Oliinyk", "Lysenko" };
+
+	private SyntheticDataset() {
+	}
+
+	record Dataset(List<UUID> clientIds, List<UUID> policyIds, List<String> policyTypes, List<String> risks) {
+	}
+
+	static Dataset generate(Connection connection, int clients, int policies, long seed) throws SQLException {
+		SplittableRandom random = new SplittableRandom(seed);
+		CopyWriter copy = new CopyWriter(connection.unwrap(PGConnection.class));
+
+		List<UUID> clientIds = new ArrayList<>(clients);
+		copy.start("COPY clients (id, first_name, last_name, email, version) FROM STDIN WITH (FORMAT csv)");
+		for (int i = 0; i < clients; i++) {
+			UUID id = UuidV7.randomUuid();
+			clientIds.add(id);
+			copy.row(id + "," + FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + ","
+					+ LAST_NAMES[random.nextInt(LAST_NAMES.length)] + ",client" + i + "@load.example.com,0");
+		}
+		copy.finish();
+
+		List<UUID> policyIds = new ArrayList<>(Math.min(policies, SAMPLED_POLICY_IDS));
+		LocalDate today = LocalDate.now();
+		int activeSeen = 0;
+		copy.start("""
+				COPY insurance_policies (id, policy_number, policy_type, start_date, end_date, client_id,
+				    covered_risks, archived, version) FROM STDIN WITH (FORMAT csv)""");
+		for (int i = 0; i < policies; i++) {
+			UUID id = UuidV7.randomUuid();
+			LocalDate startDate = today.minusDays(random.nextInt(3 * 365));
+			LocalDate endDate = startDate.plusYears(1);
+			boolean archived = endDate.isBefore(today.minusDays(365));
+			if (!archived) {
+				sample(policyIds, id, activeSeen++, random);
+			}
+			copy.row(id + ",LOAD-" + i + "," + policyType(random) + "," + startDate + "," + endDate + ","
+					+ clientIds.get(skewedIndex(clients, random)) + ",\"" + risks(random) + "\"," + archived + ",0");
+		}
+		copy.finish();
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE clients");
+			statement.execute("ANALYZE insurance_policies");
+		}
+		return new Dataset(clientIds, policyIds, List.of(POLICY_TYPES), List.of(RISKS));
+	}
+
+	// Cubing a uniform value puts roughly a fifth of all policies on the first 1% of clients
+	static int skewedIndex(int size, SplittableRandom random) {
+		double u = random.nextDouble();
+		return (int) (size * u * u * u);
+	}
+
+	static String policyType(SplittableRandom random) {
+		double u = random.nextDouble();
+		for (int i = 0; i < POLICY_TYPES.length; i++) {
+			if (u < POLICY_TYPE_WEIGHTS[i]) {
+				return POLICY_TYPES[i];
+			}
+		}
+		return POLICY_TYPES[POLICY_TYPES.length - 1];
+	}
+
+	static String risk(SplittableRandom random) {
+		return RISKS[skewedIndex(RISKS.length, random)];
+	}
+
+	// Postgres array literal with one to four distinct risks, e.g. {Medical,Dental}
+	private static String risks(SplittableRandom random) {
+		int count = 1 + random.nextInt(4);
+		List<String> chosen = new ArrayList<>(count);
+		while (chosen.size() < count) {
+			String risk = risk(random);
+			if (!chosen.contains(risk)) {
+				chosen.add(risk);
+			}
+		}
+		return "{" + String.join(",", chosen) + "}";
+	}
+
+	// Reservoir sampling keeps a uniform sample of active policy ids without holding all of them
+	private static void sample(List<UUID> sample, UUID id, int seen, SplittableRandom random) {
+		if (sample.size() < SAMPLED_POLICY_IDS) {
+			sample.add(id);
+		} else {
+			int slot = random.nextInt(seen + 1);
+			if (slot < SAMPLED_POLICY_IDS) {
+				sample.set(slot, id);
+			}
+		}
+	}
+
+	private static final class CopyWriter {
+
+		private final PGConnection connection;
+		private final StringBuilder buffer = new StringBuilder(COPY_CHUNK_BYTES + 1024);
+		private CopyIn copyIn;
+
+		private CopyWriter(PGConnection connection) {
+			this.connection = connection;
+		}
+
+		private void start(String sql) throws SQLException {
+			copyIn = connection.getCopyAPI().copyIn(sql);
+		}
+
+		private void row(String line) throws SQLException {
+			buffer.append(line).append('\n');
+			if (buffer.length() >= COPY_CHUNK_BYTES) {
+				flush();
+			}
+		}
+
+		private void finish() throws SQLException {
+			flush();
+			copyIn.endCopy();
+			copyIn = null;
+		}
+
+		private void flush() throws SQLException {
+			byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+			copyIn.writeToCopy(bytes, 0, bytes.length);
+			buffer.setLength(0);
+		}
+
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.pohribnyi.insurance.util.id.UuidV7;
+
+@Tag("benchmark")
+@DisplayName("UUID primary key insert benchmark")
+class UuidPrimaryKeyBenchmark {
+
+	private static final long ROWS = Long.getLong("benchmark.rows", 10_000_000L);
+	private static final int BATCH_SIZE = Integer.getInteger("benchmark.batchSize", 10_000);
+
+	static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:15")
+			.withDatabaseName("benchdb")
+			.withUsername("test")
+			.withPassword("test")
+			.withUrlParam("reWriteBatchedInserts", "true");
+
+	@BeforeAll
+	static void startContainer() {
+		POSTGRE_SQL_CONTAINER.start();
+	}
+
+	@AfterAll
+	static void stopContainer() {
+		POSTGRE_SQL_CONTAINER.stop();
+	}
+
+	@Test
+	@DisplayName("Compare random v4 and time-ordered v7 ids")
+	void compareUuidVersions() throws SQLException {
+		Result v4 = run("uuid_v4", UUID::randomUUID);
+		Result v7 = run("uuid_v7", UuidV7::randomUuid);
+
+		System.out.printf("%-8s %12s %14s %14s %14s%n", "ids", "rows", "rows/s", "pkey bytes", "wal bytes");
+		for (Result result : new Result[] { v4, v7 }) {
+			System.out.printf("%-8s %12d %14.0f %14d %14d%n", result.table(), ROWS,
+					ROWS / (result.nanos() / 1_000_000_000d), result.indexBytes(), result.walBytes());
+		}
+	}
+
+	private Result run(String table, Supplier<UUID> ids) throws SQLException {
+		try (Connection connection = DriverManager.getConnection(
+				POSTGRE_SQL_CONTAINER.getJdbcUrl(),
+				POSTGRE_SQL_CONTAINER.getUsername(),
+				POSTGRE_SQL_CONTAINER.getPassword())) {
+
+			try (Statement ddl = connection.createStatement()) {
+				ddl.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, seq BIGINT NOT NULL)");
+				ddl.execute("CHECKPOINT");
+			}
+
+			connection.setAutoCommit(false);
+			String walStart = queryString(connection, "SELECT pg_current_wal_lsn()::text");
+			long started = System.nanoTime();
+
+			try (PreparedStatement insert = connection.prepareStatement(
+					"INSERT INTO " + table + " (id, seq) VALUES (?, ?)")) {
+				for (long row = 1; row <= ROWS; row++) {
+					insert.setObject(1, ids.get());
+					insert.setLong(2, row);
+					insert.addBatch();
+					if (row % BATCH_SIZE == 0 || row == ROWS) {
+						insert.executeBatch();
+						connection.commit();
+					}
+				}
+			}
+
+			long nanos = System.nanoTime() - started;
+			long walBytes = queryLong(connection,
+					"SELECT pg_wal_lsn_diff(pg_current_wal_lsn(), '" + walStart + "'::pg_lsn)::bigint");
+			long indexBytes = queryLong(connection, "SELECT pg_relation_size('" + table + "_pkey')");
+			connection.commit();
+
+			return new Result(table, nanos, indexBytes, walBytes);
+		}
+	}
+
+	private String queryString(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+			rs.next();
+			return rs.getString(1);
+		}
+	}
+
+	private long queryLong(Connection connection, String sql) throws SQLException {
+		try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+	private record Result(String table, long nanos, long indexBytes, long walBytes) {
+	}
+
+}
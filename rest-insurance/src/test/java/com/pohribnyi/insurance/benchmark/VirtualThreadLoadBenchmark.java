@@ -0,0 +1,119 @@
+package com.pohribnyi.insurance.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import com.pohribnyi.insurance.ProfITsoftInsuranceRestApplication;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+
+@Tag("benchmark")
+@DisplayName("Platform vs virtual thread load benchmark")
+class VirtualThreadLoadBenchmark {
+
+	private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+	private static final int REQUESTS = Integer.getInteger("benchmark.requests", 50_000);
+	private static final int POLICIES = Integer.getInteger("benchmark.policies", 1_000);
+	private static final int POOL_SIZE = Integer.getInteger("benchmark.poolSize", 40);
+
+	static final PostgreSQLContainer<?> POSTGRE_SQL_CONTAINER = new PostgreSQLContainer<>("postgres:15")
+			.withDatabaseName("benchdb")
+			.withUsername("test")
+			.withPassword("test");
+
+	@BeforeAll
+	static void startContainer() {
+		POSTGRE_SQL_CONTAINER.start();
+	}
+
+	@AfterAll
+	static void stopContainer() {
+		POSTGRE_SQL_CONTAINER.stop();
+	}
+
+	@Test
+	@DisplayName("Compare throughput and p99 latency of GET policy by id")
+	void compareThreadingModes() throws Exception {
+		HttpLoadGenerator.Report platform = run(false);
+		HttpLoadGenerator.Report virtual = run(true);
+
+		HttpLoadGenerator.print(System.out, List.of(platform, virtual));
+	}
+
+	private HttpLoadGenerator.Report run(boolean virtualThreads) throws Exception {
+		String profiles = virtualThreads ? "test,virtual-threads" : "test";
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+				ProfITsoftInsuranceRestApplication.class)
+				.profiles(profiles.split(","))
+				.properties(
+						"server.port=0",
+						"spring.datasource.url=" + POSTGRE_SQL_CONTAINER.getJdbcUrl(),
+						"spring.datasource.username=" + POSTGRE_SQL_CONTAINER.getUsername(),
+						"spring.datasource.password=" + POSTGRE_SQL_CONTAINER.getPassword(),
+						"spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+						"spring.jpa.properties.hibernate.generate_statistics=false",
+						// Queue every client at the bulkheads instead of shedding, so the run measures throughput
+						"app.bulkhead.interactive.max-concurrent=" + POOL_SIZE,
+						"app.bulkhead.interactive.max-queued=" + CONCURRENCY,
+						"app.bulkhead.interactive.max-wait=1m",
+						"app.outbox.relay.enabled=false")
+				.run()) {
+
+			List<UUID> ids = seed(context);
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+					+ "/api/insurance_policy/";
+
+			String mode = virtualThreads ? "virtual" : "platform";
+			load(mode, baseUrl, ids, REQUESTS / 10);
+			return load(mode, baseUrl, ids, REQUESTS);
+		}
+	}
+
+	private List<UUID> seed(ConfigurableApplicationContext context) {
+		InsurancePolicyRepository policyRepository = context.getBean(InsurancePolicyRepository.class);
+		if (policyRepository.count() >= POLICIES) {
+			return policyRepository.findAll().stream().map(InsurancePolicy::getId).toList();
+		}
+
+		Client client = context.getBean(ClientRepository.class).save(Client.builder()
+				.firstName("Load")
+				.lastName("Test")
+				.email("load-" + UUID.randomUUID() + "@example.com")
+				.build());
+		List<InsurancePolicy> policies = new ArrayList<>(POLICIES);
+		for (int i = 0; i < POLICIES; i++) {
+			policies.add(InsurancePolicy.builder()
+					.policyNumber("POL-LOAD-" + i)
+					.policyType("Health")
+					.startDate(LocalDate.now())
+					.endDate(LocalDate.now().plusYears(1))
+					.coveredRisks(List.of("Medical"))
+					.client(client)
+					.build());
+		}
+		return policyRepository.saveAll(policies).stream().map(InsurancePolicy::getId).toList();
+	}
+
+	private HttpLoadGenerator.Report load(String mode, String baseUrl, List<UUID> ids, int requests)
+			throws InterruptedException {
+		return HttpLoadGenerator.run(mode, CONCURRENCY, requests, () -> HttpRequest.newBuilder(
+				URI.create(baseUrl + ids.get(ThreadLocalRandom.current().nextInt(ids.size())))).build());
+	}
+
+}
@@ -0,0 +1,47 @@
+package com.pohribnyi.insurance.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+
+@AutoConfigureObservability(tracing = false)
+@DisplayName("Metrics Endpoint Integration Tests")
+class MetricsEndpointTest extends BaseIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Test
+	@DisplayName("Test prometheus scrape exposes hot-path metrics functionality")
+	void shouldExposeHotPathMetrics() throws Exception {
+		// given
+		mockMvc.perform(get("/api/insurance_policy/" + UUID.randomUUID()))
+				.andExpect(status().isNotFound());
+
+		// when
+		String scrape = mockMvc.perform(get("/actuator/prometheus"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+
+		// then
+		assertThat(scrape)
+				.contains("http_server_requests_seconds_bucket{")
+				.contains("spring_data_repository_invocations_seconds_bucket{")
+				.contains("hikaricp_connections_acquire_seconds_bucket{")
+				.contains("hibernate_query_executions_total{")
+				.contains("hibernate_entities_loads_total{")
+				.contains("hibernate_second_level_cache_requests_total{")
+				.contains("application=\"profITsoft-insurance-rest\"");
+	}
+
+}
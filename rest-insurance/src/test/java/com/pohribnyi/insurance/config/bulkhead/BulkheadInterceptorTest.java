@@ -0,0 +1,119 @@
+package com.pohribnyi.insurance.config.bulkhead;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@DisplayName("Bulkhead Interceptor Integration Tests")
+@TestPropertySource(properties = {
+		"app.bulkhead.stream.max-concurrent=1",
+		"app.bulkhead.stream.max-queued=1",
+		"app.bulkhead.stream.max-wait=2s",
+		"app.bulkhead.stream.retry-after=30s" })
+class BulkheadInterceptorTest extends BaseIntegrationTest {
+
+	private static final String API_STREAM_URL = "/api/client/stream";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Test
+	@DisplayName("Test busy stream bulkhead rejects with 429 or 503 and Retry-After functionality")
+	void shouldRejectStreamsBeyondLimitWithRetryAfter() throws Exception {
+		// given
+		MvcResult holder = mockMvc.perform(get(API_STREAM_URL))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+			Future<MvcResult> queued = executor.submit(() -> mockMvc.perform(get(API_STREAM_URL)).andReturn());
+			await().atMost(Duration.ofSeconds(5)).until(() -> queueDepth() == 1);
+
+			// when
+			MvcResult rejected = mockMvc.perform(get(API_STREAM_URL)).andReturn();
+			MvcResult timedOut = queued.get(10, TimeUnit.SECONDS);
+
+			// then
+			assertThat(rejected.getResponse().getStatus()).isEqualTo(429);
+			assertThat(rejected.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+			assertThat(timedOut.getResponse().getStatus()).isEqualTo(503);
+			assertThat(timedOut.getResponse().getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("30");
+		}
+
+		mockMvc.perform(asyncDispatch(holder))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	@DisplayName("Test stream permit is released after the response completes functionality")
+	void shouldReleasePermitAfterStreamingResponse() throws Exception {
+		// given
+		MvcResult first = mockMvc.perform(get(API_STREAM_URL))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		assertThat(active()).isEqualTo(1);
+
+		// when
+		mockMvc.perform(asyncDispatch(first))
+				.andExpect(status().isOk());
+
+		// then
+		assertThat(active()).isZero();
+		MvcResult second = mockMvc.perform(get(API_STREAM_URL))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		mockMvc.perform(asyncDispatch(second))
+				.andExpect(status().isOk());
+		assertThat(active()).isZero();
+	}
+
+	@Test
+	@DisplayName("Test stream does not take an interactive permit functionality")
+	void shouldNotHoldInteractivePermitWhileStreaming() throws Exception {
+		// given
+		MvcResult stream = mockMvc.perform(get(API_STREAM_URL))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// when
+		double interactive = meterRegistry.get("app.bulkhead.active").tag("name", "interactive").gauge().value();
+
+		// then
+		assertThat(interactive).isZero();
+		mockMvc.perform(asyncDispatch(stream))
+				.andExpect(status().isOk());
+	}
+
+	private double active() {
+		return meterRegistry.get("app.bulkhead.active").tag("name", "stream").gauge().value();
+	}
+
+	private double queueDepth() {
+		return meterRegistry.get("app.bulkhead.queue.depth").tag("name", "stream").gauge().value();
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.pohribnyi.insurance.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Replica Routing DataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	@DisplayName("Test read-only transactions are routed to healthy replicas functionality")
+	void shouldRouteReadOnlyTransactionsToHealthyReplicas() throws Exception {
+		// given
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replicaWithLag(100L),
+				"replica-2", replicaWithLag(0L)));
+
+		// when
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		Object first = routing.determineCurrentLookupKey();
+		Object second = routing.determineCurrentLookupKey();
+
+		// then
+		assertThat(first).isNotEqualTo(second);
+		assertThat(first).isIn("replica-1", "replica-2");
+		assertThat(second).isIn("replica-1", "replica-2");
+		assertThat(fallbacks()).isZero();
+	}
+
+	@Test
+	@DisplayName("Test read-write transactions always use the primary functionality")
+	void shouldRouteReadWriteTransactionsToPrimary() throws Exception {
+		// given
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replicaWithLag(0L)));
+
+		// when
+		Object target = routing.determineCurrentLookupKey();
+
+		// then
+		assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+		assertThat(fallbacks()).isZero();
+	}
+
+	@Test
+	@DisplayName("Test lagging replica falls back to the primary functionality")
+	void shouldFallBackToPrimaryWhenReplicaLags() throws Exception {
+		// given
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replicaWithLag(60_000L)));
+
+		// when
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		Object target = routing.determineCurrentLookupKey();
+
+		// then
+		assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+		assertThat(fallbacks()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test replica without a streaming WAL receiver falls back to the primary functionality")
+	void shouldFallBackToPrimaryWhenReplicaIsNotStreaming() throws Exception {
+		// given
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-1", replicaWithLag(null)));
+
+		// when
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		Object target = routing.determineCurrentLookupKey();
+
+		// then
+		assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+		assertThat(fallbacks()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test unreachable replica falls back to the primary functionality")
+	void shouldFallBackToPrimaryWhenReplicaIsUnreachable() throws Exception {
+		// given
+		DataSource unreachable = mock(DataSource.class);
+		when(unreachable.getConnection()).thenThrow(new SQLException("Connection refused"));
+		ReplicaRoutingDataSource routing = routing(Map.of("replica-1", unreachable));
+
+		// when
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		Object target = routing.determineCurrentLookupKey();
+
+		// then
+		assertThat(target).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+		assertThat(fallbacks()).isEqualTo(1);
+	}
+
+	private ReplicaRoutingDataSource routing(Map<String, DataSource> replicas) {
+		ReplicaLagMonitor lagMonitor = new ReplicaLagMonitor(new LinkedHashMap<>(replicas), Duration.ofSeconds(5),
+				meterRegistry);
+		lagMonitor.checkLag();
+		return new ReplicaRoutingDataSource(mock(DataSource.class), lagMonitor, meterRegistry);
+	}
+
+	// A null lag is what the lag query reports for a replica whose WAL receiver is not streaming
+	private DataSource replicaWithLag(Long lagMillis) throws SQLException {
+		DataSource dataSource = mock(DataSource.class);
+		Connection connection = mock(Connection.class);
+		Statement statement = mock(Statement.class);
+		ResultSet resultSet = mock(ResultSet.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.createStatement()).thenReturn(statement);
+		when(statement.executeQuery(anyString())).thenReturn(resultSet);
+		when(resultSet.next()).thenReturn(true);
+		when(resultSet.getLong(1)).thenReturn(lagMillis == null ? 0L : lagMillis);
+		when(resultSet.wasNull()).thenReturn(lagMillis == null);
+		return dataSource;
+	}
+
+	private double fallbacks() {
+		return meterRegistry.get("app.datasource.routing.fallback").counter().count();
+	}
+
+}
@@ -0,0 +1,54 @@
+package com.pohribnyi.insurance.config.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+
+@DisplayName("SQL Statistics Endpoint Integration Tests")
+class SqlStatisticsEndpointTest extends BaseIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Test
+	@DisplayName("Test top fingerprints by total time functionality")
+	void shouldListTopFingerprintsByTotalTime() throws Exception {
+		// given
+		for (int i = 0; i < 3; i++) {
+			mockMvc.perform(get("/api/insurance_policy/" + UUID.randomUUID()))
+					.andExpect(status().isNotFound());
+		}
+
+		// when
+		String body = mockMvc.perform(get("/actuator/sqlstats").param("limit", "50"))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		JsonNode stats = objectMapper.readTree(body);
+
+		// then
+		assertThat(stats.size()).isBetween(1, 50);
+		for (int i = 1; i < stats.size(); i++) {
+			assertThat(stats.get(i - 1).get("totalMillis").asDouble())
+					.isGreaterThanOrEqualTo(stats.get(i).get("totalMillis").asDouble());
+		}
+		assertThat(stats).anySatisfy(entry -> {
+			assertThat(entry.get("fingerprint").asText()).contains("from insurance_policies");
+			assertThat(entry.get("count").asLong()).isGreaterThanOrEqualTo(3);
+		});
+	}
+
+}
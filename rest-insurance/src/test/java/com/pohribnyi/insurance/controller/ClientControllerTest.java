@@ -1,17 +1,32 @@
 package com.pohribnyi.insurance.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,13 +34,25 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pohribnyi.insurance.BaseIntegrationTest;
 import com.pohribnyi.insurance.dto.request.ClientRequestDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.ClientPurgeJob;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.enums.PurgeJobStatus;
+import com.pohribnyi.insurance.repository.ClientPurgeJobRepository;
 import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.repository.OutboxRepository;
+import com.pohribnyi.insurance.service.ClientPurgeWorker;
+
+import jakarta.persistence.EntityManagerFactory;
 
 @DisplayName("Client Controller Integration Tests")
 class ClientControllerTest extends BaseIntegrationTest {
@@ -40,6 +67,24 @@ class ClientControllerTest extends BaseIntegrationTest {
     
     @Autowired
     private ClientRepository clientRepository;
+
+    @Autowired
+    private InsurancePolicyRepository policyRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ClientPurgeJobRepository purgeJobRepository;
+
+    @Autowired
+    private ClientPurgeWorker purgeWorker;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Value("${kafka.topic.domainEventTopic}")
+    private String domainEventTopic;
     
     @BeforeEach
     void setUp() {
@@ -64,7 +109,38 @@ class ClientControllerTest extends BaseIntegrationTest {
 				.andExpect(jsonPath("$.lastName").value("User"))
 				.andExpect(jsonPath("$.email").value("test@example.com"));
     }
-    
+
+    @Test
+    @DisplayName("Test retried create with Idempotency-Key replays original response functionality")
+    void shouldReplayCreateClientForSameIdempotencyKey() throws Exception {
+        // given
+        String idempotencyKey = UUID.randomUUID().toString();
+        String request = objectMapper.writeValueAsString(new ClientRequestDTO("Test", "User", "test@example.com"));
+        String response = mockMvc.perform(post(API_CLIENT_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(request))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+
+        // when
+        // then
+        mockMvc.perform(post(API_CLIENT_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(request))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(content().json(response));
+        mockMvc.perform(post(API_CLIENT_URL)
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ClientRequestDTO("Other", "User", "other@example.com"))))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertThat(clientRepository.count()).isEqualTo(1);
+        verify(emailNotificationProducer, times(1)).sendWelcomeNotification(any(Client.class));
+    }
 	
 	@NullSource
 	@ValueSource(strings = { "", "  ", "\t", "\n" })
@@ -223,6 +299,158 @@ class ClientControllerTest extends BaseIntegrationTest {
 	}
 	
 	@Test
+    @DisplayName("Test delete client with policies functionality")
+    void shouldDeleteClientWithPolicies() throws Exception {
+        // given
+        Client client = saveClientWithPolicies("test@example.com", 3);
+
+        // when
+        mockMvc.perform(delete(API_CLIENT_URL + "/" + client.getId()))
+                .andExpect(status().isNoContent());
+
+        // then
+        assertThat(clientRepository.existsById(client.getId())).isFalse();
+        assertThat(policyRepository.countByClientId(client.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Test policy delete events when deleting client with policies functionality")
+    void shouldQueuePolicyDeletedEventsWhenDeletingClient() throws Exception {
+        // given
+        Client client = saveClientWithPolicies("test@example.com", 2);
+        List<InsurancePolicy> policies = policyRepository.findAllByClientIdOrderByStartDateAscIdAsc(client.getId());
+
+        // when
+        mockMvc.perform(delete(API_CLIENT_URL + "/" + client.getId()))
+                .andExpect(status().isNoContent());
+
+        // then
+        for (InsurancePolicy policy : policies) {
+            assertThat(outboxRepository.findAllByTopicAndMessageKeyOrderById(domainEventTopic,
+                    policy.getId().toString()))
+                    .extracting(event -> event.getPayload().get("type").asText())
+                    .containsExactly("POLICY_DELETED");
+        }
+    }
+
+    @Test
+    @DisplayName("Test asynchronous purge of client with policies functionality")
+    void shouldPurgeClientAsynchronously() throws Exception {
+        // given
+        Client client = saveClientWithPolicies("test@example.com", 5);
+
+        // when
+        String response = mockMvc.perform(post(API_CLIENT_URL + "/" + client.getId() + "/_purge"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.clientId").value(client.getId().toString()))
+                .andExpect(jsonPath("$.totalPolicies").value(5))
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(response).get("id").asText();
+
+        // then
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                mockMvc.perform(get(API_CLIENT_URL + "/_purge/" + jobId))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.status").value("COMPLETED"))
+                        .andExpect(jsonPath("$.deletedPolicies").value(5)));
+        assertThat(clientRepository.existsById(client.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Test stale purge job is failed and replaced functionality")
+    void shouldReplaceStalePurgeJob() throws Exception {
+        // given
+        Client client = saveClientWithPolicies("test@example.com", 2);
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(1);
+        ClientPurgeJob stale = purgeJobRepository.save(ClientPurgeJob.builder()
+                .clientId(client.getId())
+                .status(PurgeJobStatus.RUNNING)
+                .totalPolicies(2)
+                .createdAt(longAgo)
+                .updatedAt(longAgo)
+                .ownerToken(UUID.randomUUID())
+                .heartbeatAt(longAgo)
+                .build());
+
+        // when
+        String response = mockMvc.perform(post(API_CLIENT_URL + "/" + client.getId() + "/_purge"))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(response).get("id").asText();
+
+        // then
+        assertThat(jobId).isNotEqualTo(stale.getId().toString());
+        assertThat(purgeJobRepository.findById(stale.getId()))
+                .hasValueSatisfying(job -> assertThat(job.getStatus()).isEqualTo(PurgeJobStatus.FAILED));
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                mockMvc.perform(get(API_CLIENT_URL + "/_purge/" + jobId))
+                        .andExpect(jsonPath("$.status").value("COMPLETED")));
+    }
+
+    @Test
+    @DisplayName("Test slow purge job with a live heartbeat is kept functionality")
+    void shouldKeepSlowPurgeJobWithLiveHeartbeat() throws Exception {
+        // given
+        Client client = saveClientWithPolicies("test@example.com", 2);
+        LocalDateTime longAgo = LocalDateTime.now().minusHours(1);
+        ClientPurgeJob slow = purgeJobRepository.save(ClientPurgeJob.builder()
+                .clientId(client.getId())
+                .status(PurgeJobStatus.RUNNING)
+                .totalPolicies(2)
+                .createdAt(longAgo)
+                .updatedAt(longAgo)
+                .ownerToken(UUID.randomUUID())
+                .heartbeatAt(LocalDateTime.now())
+                .build());
+
+        // when
+        mockMvc.perform(post(API_CLIENT_URL + "/" + client.getId() + "/_purge"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value(slow.getId().toString()))
+                .andExpect(jsonPath("$.status").value("RUNNING"));
+
+        // then
+        assertThat(purgeJobRepository.findAll())
+                .filteredOn(job -> job.getClientId().equals(client.getId()))
+                .hasSize(1);
+        assertThat(clientRepository.existsById(client.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("Test worker without the owner token leaves the job and client alone functionality")
+    void shouldNotRunPurgeJobOwnedByAnotherWorker() throws Exception {
+        // given
+        Client client = saveClientWithPolicies("test@example.com", 2);
+        LocalDateTime now = LocalDateTime.now();
+        ClientPurgeJob job = purgeJobRepository.save(ClientPurgeJob.builder()
+                .clientId(client.getId())
+                .status(PurgeJobStatus.PENDING)
+                .totalPolicies(2)
+                .createdAt(now)
+                .updatedAt(now)
+                .ownerToken(UUID.randomUUID())
+                .heartbeatAt(now)
+                .build());
+
+        // when
+        purgeWorker.purge(job.getId(), UUID.randomUUID());
+
+        // then
+        await().during(Duration.ofMillis(500)).atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(purgeJobRepository.findById(job.getId()))
+                    .hasValueSatisfying(current -> assertThat(current.getStatus()).isEqualTo(PurgeJobStatus.PENDING));
+            assertThat(policyRepository.countByClientId(client.getId())).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("Test 404 code when purge not-existed client functionality")
+    void shouldReturn404WhenPurgingNotExistedClient() throws Exception {
+        mockMvc.perform(post(API_CLIENT_URL + "/" + UUID.randomUUID() + "/_purge"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
     @DisplayName("Test 404 code when delete not-existed client functionality")
     void shouldReturn404WhenDeletingNotExistedClient() throws Exception {
         // given
@@ -245,7 +473,8 @@ class ClientControllerTest extends BaseIntegrationTest {
 		// then:
 		mockMvc.perform(get(API_CLIENT_URL))
 			.andExpect(status().isOk())
-			.andExpect(jsonPath("$", hasSize(0)));
+            .andExpect(jsonPath("$.list", hasSize(0)))
+            .andExpect(jsonPath("$.nextCursor").doesNotExist());
 	}
 	
 	@Test
@@ -272,9 +501,166 @@ class ClientControllerTest extends BaseIntegrationTest {
 		// then
 		mockMvc.perform(get(API_CLIENT_URL))
 				.andExpect(status().isOk())
-				.andExpect(jsonPath("$", hasSize(3)))
-				.andExpect(jsonPath("$[*].email",
+                .andExpect(jsonPath("$.list", hasSize(3)))
+                .andExpect(jsonPath("$.list[*].email",
 						containsInAnyOrder("test@example.com", "test1@example.com", "test2@example.com")));
 	}
+
+    @Test
+    @DisplayName("Test get client with policies in bounded statements functionality")
+    void shouldGetClientWithPoliciesInBoundedStatements() throws Exception {
+        // given
+        Client client = clientRepository.save(Client.builder()
+                .firstName("Test")
+                .lastName("User")
+                .email("test@example.com")
+                .build());
+
+        for (int i = 1; i <= 5; i++) {
+            policyRepository.save(InsurancePolicy.builder()
+                    .policyNumber("POL-INC-" + i)
+                    .policyType("Health")
+                    .startDate(LocalDate.now().plusDays(i))
+                    .endDate(LocalDate.now().plusYears(1))
+                    .coveredRisks(List.of("Medical", "Surgery"))
+                    .client(client)
+                    .build());
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        mockMvc.perform(get(API_CLIENT_URL + "/" + client.getId()).param("include", "policies"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(client.getId().toString()))
+                .andExpect(jsonPath("$.email").value("test@example.com"))
+                .andExpect(jsonPath("$.policies", hasSize(5)))
+                .andExpect(jsonPath("$.policies[0].policyNumber").value("POL-INC-1"))
+                .andExpect(jsonPath("$.policies[*].coveredRisks[*]", hasSize(10)));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Test client list within statement budget functionality")
+    void shouldListClientsWithinStatementBudget() throws Exception {
+        // given
+        for (int i = 1; i <= 25; i++) {
+            clientRepository.save(Client.builder()
+                    .firstName("Test" + i)
+                    .lastName("User" + i)
+                    .email("test" + i + "@example.com")
+                    .build());
+        }
+
+        // then
+        statementRecorder.expectAtMost(1, "client list with 20 rows", () -> mockMvc
+                .perform(get(API_CLIENT_URL).param("size", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.list", hasSize(20))));
+    }
+
+    @Test
+    @DisplayName("Test keyset pagination of clients functionality")
+    void shouldPaginateClientsWithCursor() throws Exception {
+        // given
+        for (int i = 1; i <= 5; i++) {
+            mockMvc.perform(post(API_CLIENT_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper
+                            .writeValueAsString(new ClientRequestDTO("Test" + i, "User" + i, "test" + i + "@example.com"))));
+        }
+
+        // when
+        String firstPage = mockMvc.perform(get(API_CLIENT_URL).param("size", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.list", hasSize(3)))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        // then
+        mockMvc.perform(get(API_CLIENT_URL).param("size", "3").param("after", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.list", hasSize(2)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Test filter clients by name and email functionality")
+    void shouldFilterClientsByNameAndEmail() throws Exception {
+        // given
+        mockMvc.perform(post(API_CLIENT_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper
+                        .writeValueAsString(new ClientRequestDTO("Taras", "Shevchenko", "taras@example.com"))));
+
+        mockMvc.perform(post(API_CLIENT_URL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper
+                        .writeValueAsString(new ClientRequestDTO("Lesya", "Ukrainka", "lesya@example.com"))));
+
+        // when
+
+        // then
+        mockMvc.perform(get(API_CLIENT_URL).param("lastName", "shev"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.list", hasSize(1)))
+                .andExpect(jsonPath("$.list[0].firstName").value("Taras"));
+
+        mockMvc.perform(get(API_CLIENT_URL).param("email", "LESYA@"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.list", hasSize(1)))
+                .andExpect(jsonPath("$.list[0].lastName").value("Ukrainka"));
+    }
+
+    @Test
+    @DisplayName("Test stream clients as NDJSON functionality")
+    void shouldStreamClientsAsNdjson() throws Exception {
+        // given
+        for (int i = 1; i <= 3; i++) {
+            mockMvc.perform(post(API_CLIENT_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper
+                            .writeValueAsString(new ClientRequestDTO("Test" + i, "User" + i, "test" + i + "@example.com"))));
+        }
+
+        // when
+        MvcResult result = mockMvc.perform(get(API_CLIENT_URL + "/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(3);
+        assertThat(objectMapper.readTree(lines.get(0)).get("email").asText()).endsWith("@example.com");
+    }
 	
+    private Client saveClientWithPolicies(String email, int policies) {
+        Client client = clientRepository.save(Client.builder()
+                .firstName("Test")
+                .lastName("User")
+                .email(email)
+                .build());
+
+        for (int i = 1; i <= policies; i++) {
+            policyRepository.save(InsurancePolicy.builder()
+                    .policyNumber("POL-" + email + "-" + i)
+                    .policyType("Health")
+                    .startDate(LocalDate.now().plusDays(i))
+                    .endDate(LocalDate.now().plusYears(1))
+                    .coveredRisks(List.of("Medical", "Surgery"))
+                    .client(client)
+                    .build());
+        }
+        return client;
+    }
+
 }
@@ -0,0 +1,181 @@
+package com.pohribnyi.insurance.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.response.client.ClientResponseDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.InsurancePolicyResponseDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.util.concurrent.SingleFlight;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@DisplayName("Concurrent Lookup Integration Tests")
+class ConcurrentLookupControllerTest extends BaseIntegrationTest {
+
+	private static final int FOLLOWERS = 4;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private SingleFlight<UUID, InsurancePolicyResponseDTO> policyLookups;
+
+	@Autowired
+	private SingleFlight<UUID, ClientResponseDTO> clientLookups;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private Client client;
+
+	@BeforeEach
+	void setUp() {
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+		client = clientRepository.save(Client.builder()
+				.firstName("Test")
+				.lastName("Client")
+				.email("lookup@example.com")
+				.build());
+	}
+
+	@Test
+	@DisplayName("Test concurrent GET policy by id share one in-flight load functionality")
+	void shouldCoalesceConcurrentPolicyLookups() throws Exception {
+		// given
+		InsurancePolicy policy = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-LOOKUP-001")
+				.policyType("Health")
+				.startDate(LocalDate.now().plusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(List.of("Medical"))
+				.client(client)
+				.build());
+		// Differs from the stored row, so a response carrying it can only come from the shared load
+		InsurancePolicyResponseDTO inFlight = new InsurancePolicyResponseDTO(policy.getId(),
+				policy.getPolicyNumber(), "In flight", policy.getStartDate(), policy.getEndDate(),
+				policy.getCoveredRisks(), ClientResponseDTO.fromEntity(client));
+
+		// when
+		List<MockHttpServletResponse> responses = getWhileLoadIsInFlight("policy",
+				"/api/insurance_policy/" + policy.getId(),
+				release -> policyLookups.load(policy.getId(), awaiting(release, inFlight)));
+
+		// then
+		for (MockHttpServletResponse response : responses) {
+			assertThat(response.getStatus()).isEqualTo(200);
+			assertThat(objectMapper.readTree(response.getContentAsString()).get("policyType").asText())
+					.isEqualTo("In flight");
+		}
+	}
+
+	@Test
+	@DisplayName("Test concurrent GET client by id share one in-flight load functionality")
+	void shouldCoalesceConcurrentClientLookups() throws Exception {
+		// given
+		ClientResponseDTO inFlight = new ClientResponseDTO(client.getId(), "In flight", client.getLastName(),
+				client.getEmail());
+
+		// when
+		List<MockHttpServletResponse> responses = getWhileLoadIsInFlight("client",
+				"/api/client/" + client.getId(),
+				release -> clientLookups.load(client.getId(), awaiting(release, inFlight)));
+
+		// then
+		for (MockHttpServletResponse response : responses) {
+			assertThat(response.getStatus()).isEqualTo(200);
+			assertThat(objectMapper.readTree(response.getContentAsString()).get("firstName").asText())
+					.isEqualTo("In flight");
+		}
+	}
+
+	// Starts a leader load that blocks until released, sends GETs for the same id and releases the
+	// leader once every GET is waiting on it
+	private List<MockHttpServletResponse> getWhileLoadIsInFlight(String lookup, String url,
+			Function<CountDownLatch, ?> leader) throws Exception {
+		double loadedBefore = loaded(lookup);
+		double collapsedBefore = collapsed(lookup);
+		CountDownLatch release = new CountDownLatch(1);
+		List<MockHttpServletResponse> responses = new ArrayList<>();
+		try (ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1)) {
+			Future<?> leaderLoad = executor.submit(() -> leader.apply(release));
+			await().atMost(Duration.ofSeconds(5)).until(() -> loaded(lookup) > loadedBefore);
+
+			List<Future<MockHttpServletResponse>> followers = new ArrayList<>();
+			for (int i = 0; i < FOLLOWERS; i++) {
+				followers.add(executor.submit(() -> mockMvc.perform(get(url)).andReturn().getResponse()));
+			}
+			await().atMost(Duration.ofSeconds(5)).until(() -> waiting(lookup) == FOLLOWERS);
+			release.countDown();
+
+			leaderLoad.get(5, TimeUnit.SECONDS);
+			for (Future<MockHttpServletResponse> follower : followers) {
+				responses.add(follower.get(5, TimeUnit.SECONDS));
+			}
+		}
+		assertThat(collapsed(lookup) - collapsedBefore).isEqualTo(FOLLOWERS);
+		return responses;
+	}
+
+	private static <T> Supplier<T> awaiting(CountDownLatch release, T value) {
+		return () -> {
+			try {
+				release.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return value;
+		};
+	}
+
+	private double loaded(String lookup) {
+		return meterRegistry.get("app.single-flight.requests").tag("name", lookup).tag("result", "loaded")
+				.counter().count();
+	}
+
+	private double collapsed(String lookup) {
+		return meterRegistry.get("app.single-flight.requests").tag("name", lookup).tag("result", "collapsed")
+				.counter().count();
+	}
+
+	private double waiting(String lookup) {
+		return meterRegistry.get("app.single-flight.waiting").tag("name", lookup).gauge().value();
+	}
+
+}
@@ -1,6 +1,8 @@
 package com.pohribnyi.insurance.controller;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
@@ -19,6 +21,7 @@ import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -28,22 +31,36 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.pohribnyi.insurance.BaseIntegrationTest;
 import com.pohribnyi.insurance.dto.request.CreateInsurancePolicyRequestDTO;
 import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
 import com.pohribnyi.insurance.dto.request.UpdateInsurancePolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.bulk.BulkPolicyOperationDTO;
+import com.pohribnyi.insurance.dto.request.bulk.BulkPolicyRequestDTO;
+import com.pohribnyi.insurance.dto.request.bulk.PolicyUpsertBatchRequestDTO;
+import com.pohribnyi.insurance.dto.response.insurancePolicy.PolicyPageableResponseDTO;
 import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.model.entity.OutboxMessage;
+import com.pohribnyi.insurance.model.enums.BulkOperationType;
 import com.pohribnyi.insurance.repository.ClientRepository;
 import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.repository.OutboxRepository;
+import com.pohribnyi.insurance.service.PolicyArchiveService;
 
 @DisplayName("Insurance Policy Controller Integration Tests")
 class InsurancePolicyControllerTest extends BaseIntegrationTest {
@@ -52,6 +69,8 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 	private static final String API_LIST_POLICY_URL = API_POLICY_URL + "/_list";
 	private static final String API_REPORT_POLICY_URL = API_POLICY_URL + "/_report";
 	private static final String API_UPLOAD_POLICY_URL = API_POLICY_URL+ "/upload";
+	private static final String API_BULK_POLICY_URL = API_POLICY_URL + "/_bulk";
+	private static final String API_UPSERT_POLICY_URL = API_POLICY_URL + "/by-number";
 
 	@Autowired
 	private MockMvc mockMvc;
@@ -65,6 +84,15 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 	@Autowired
 	private InsurancePolicyRepository policyRepository;
 
+	@Autowired
+	private PolicyArchiveService policyArchiveService;
+
+	@Autowired
+	private OutboxRepository outboxRepository;
+
+	@Value("${kafka.topic.domainEventTopic}")
+	private String domainEventTopic;
+
 	private UUID testClientId;
 
 	@BeforeEach
@@ -108,6 +136,38 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				.andExpect(jsonPath("$.client.id").value(testClientId.toString()));
 	}
 
+	@Test
+	@DisplayName("Test retried policy create with Idempotency-Key replays original response functionality")
+	void shouldReplayCreatePolicyForSameIdempotencyKey() throws Exception {
+		// given
+		String idempotencyKey = UUID.randomUUID().toString();
+		String request = objectMapper.writeValueAsString(new CreateInsurancePolicyRequestDTO(
+				"POL-IDEM-001",
+				"Health",
+				LocalDate.now().plusDays(1),
+				LocalDate.now().plusYears(1),
+				List.of("Medical"),
+				testClientId));
+		String policyId = objectMapper.readTree(mockMvc.perform(post(API_POLICY_URL)
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(request))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString()).get("id").asText();
+
+		// when
+		mockMvc.perform(post(API_POLICY_URL)
+				.header("Idempotency-Key", idempotencyKey)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(request))
+				.andExpect(status().isCreated())
+				.andExpect(header().string("Idempotent-Replayed", "true"))
+				.andExpect(jsonPath("$.id").value(policyId));
+
+		// then
+		assertThat(policyRepository.count()).isEqualTo(1);
+	}
+
 	@ParameterizedTest(name = "Test create invalid policy scenario={0} functionality")
 	@MethodSource("invalidCreatePolicyProvider")
 	void shouldRejectPolicyWithInvalidData(String scenario, CreateInsurancePolicyRequestDTO request,
@@ -270,6 +330,39 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				.andExpect(jsonPath("$.coveredRisks", containsInAnyOrder("Death", "Disability")));
 	}
 
+	@Test
+	@DisplayName("Test policy change events with growing versions functionality")
+	void shouldQueueVersionedPolicyChangeEvents() throws Exception {
+		// given
+		UUID policyId = createPolicy("POL-EVT-001");
+		UpdateInsurancePolicyRequestDTO updateRequest = new UpdateInsurancePolicyRequestDTO(
+				"Life",
+				LocalDate.now().plusDays(2), 
+				LocalDate.now().plusYears(2),
+				List.of("Death"),
+				testClientId);
+
+		// when
+		mockMvc.perform(put(API_POLICY_URL + "/" + policyId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(updateRequest)))
+				.andExpect(status().isOk());
+		mockMvc.perform(delete(API_POLICY_URL + "/" + policyId))
+				.andExpect(status().isNoContent());
+
+		// then
+		List<OutboxMessage> events = outboxRepository.findAllByTopicAndMessageKeyOrderById(domainEventTopic,
+				policyId.toString());
+		assertThat(events)
+				.extracting(event -> event.getPayload().get("type").asText())
+				.containsExactly("POLICY_CREATED", "POLICY_UPDATED", "POLICY_DELETED");
+		assertThat(events)
+				.extracting(event -> event.getPayload().get("version").asLong())
+				.containsExactly(0L, 1L, 2L);
+		assertThat(events.get(1).getPayload().get("data").get("policyType").asText()).isEqualTo("Life");
+		assertThat(events.get(2).getPayload().get("data").isNull()).isTrue();
+	}
+
 	@Test
 	@DisplayName("Test 404 code when update not-existed policy functionality")
 	void shouldReturn404WhenUpdatingNonExistentPolicy() throws Exception {
@@ -362,7 +455,7 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 		}
 
 		// when
-		PolicyPageableRequestDTO listRequest = new PolicyPageableRequestDTO(null, null, null, 0, 3);
+		PolicyPageableRequestDTO listRequest = new PolicyPageableRequestDTO(null, null, null, null, null, 0, 3);
 
 		// then
 		mockMvc.perform(post(API_LIST_POLICY_URL)
@@ -373,6 +466,74 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				.andExpect(jsonPath("$.totalPages").value(2));
 	}
 
+	@Test
+	@DisplayName("Test list and get policy within statement budget functionality")
+	void shouldListAndGetPoliciesWithinStatementBudget() throws Exception {
+		// given
+		Client client = clientRepository.findById(testClientId).orElseThrow();
+		List<InsurancePolicy> policies = policyRepository.saveAll(IntStream.rangeClosed(1, 25)
+				.mapToObj(i -> InsurancePolicy.builder()
+						.policyNumber("POL-BUDGET-" + i)
+						.policyType("Health")
+						.startDate(LocalDate.now().plusDays(1))
+						.endDate(LocalDate.now().plusYears(1))
+						.coveredRisks(List.of("Medical"))
+						.client(client)
+						.build())
+				.toList());
+		PolicyPageableRequestDTO listRequest = new PolicyPageableRequestDTO(null, null, null, null, null, 0, 20);
+
+		// then
+		statementRecorder.expectAtMost(2, "_list with 20 rows", () -> mockMvc.perform(post(API_LIST_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(listRequest)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.list", hasSize(20))));
+		statementRecorder.expectAtMost(2, "GET /{id} with client", () -> mockMvc
+				.perform(get(API_POLICY_URL + "/" + policies.getFirst().getId()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.client.email").value("testclient@example.com")));
+	}
+
+	@ParameterizedTest(name = "Test {0} list representation matches JSON functionality")
+	@ValueSource(strings = { "application/x-jackson-smile", "application/cbor" })
+	void shouldNegotiateBinaryListRepresentation(String mediaType) throws Exception {
+		// given
+		Client client = clientRepository.findById(testClientId).orElseThrow();
+		policyRepository.saveAll(IntStream.rangeClosed(1, 3)
+				.mapToObj(i -> InsurancePolicy.builder()
+						.policyNumber("POL-BIN-" + i)
+						.policyType("Health")
+						.startDate(LocalDate.now().plusDays(1))
+						.endDate(LocalDate.now().plusYears(1))
+						.coveredRisks(List.of("Medical"))
+						.client(client)
+						.build())
+				.toList());
+		String listRequest = objectMapper.writeValueAsString(
+				new PolicyPageableRequestDTO(testClientId, null, null, null, null, 0, 10));
+		ObjectMapper binaryMapper = new ObjectMapper(mediaType.endsWith("cbor") ? new CBORFactory() : new SmileFactory())
+				.registerModule(new JavaTimeModule());
+
+		// when
+		byte[] binary = mockMvc.perform(post(API_LIST_POLICY_URL)
+				.accept(mediaType)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(listRequest))
+				.andExpect(status().isOk())
+				.andExpect(header().string("Content-Type", containsString(mediaType)))
+				.andReturn().getResponse().getContentAsByteArray();
+		String json = mockMvc.perform(post(API_LIST_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(listRequest))
+				.andReturn().getResponse().getContentAsString();
+
+		// then
+		assertThat(binaryMapper.readValue(binary, PolicyPageableResponseDTO.class))
+				.isEqualTo(objectMapper.readValue(json, PolicyPageableResponseDTO.class));
+		assertThat(binary.length).isLessThan(json.getBytes(StandardCharsets.UTF_8).length);
+	}
+
 	@Test
 	@DisplayName("Test filter policies by client ID functionality")
 	void shouldFilterPoliciesByClientId() throws Exception {
@@ -406,7 +567,7 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 						));
 
 		// when
-		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(testClientId, null, null, 0, 5);
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(testClientId, null, null, null, null, 0, 5);
 
 		// then
 		mockMvc.perform(post(API_LIST_POLICY_URL)
@@ -444,7 +605,7 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 						));
 
 		// when
-		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, "POL-HEALTH-001", 0, 5);
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, "POL-HEALTH-001", null, null, 0, 5);
 
 		// then
 		mockMvc.perform(post(API_LIST_POLICY_URL)
@@ -455,6 +616,156 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				.andExpect(jsonPath("$.list[0].policyNumber").value("POL-HEALTH-001"));
 	}
 
+	@Test
+	@DisplayName("Test filter policies by covered risk functionality")
+	void shouldFilterPoliciesByCoveredRisk() throws Exception {
+		// given
+		mockMvc.perform(post(API_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new CreateInsurancePolicyRequestDTO(
+						"POL-RISK-001", 
+						"Property",
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1), 
+						List.of("Fire", "Flood"),
+						testClientId))
+						));
+
+		mockMvc.perform(post(API_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new CreateInsurancePolicyRequestDTO(
+						"POL-RISK-002", 
+						"Auto", 
+						LocalDate.now().plusDays(1),
+						LocalDate.now().plusYears(1), 
+						List.of("Collision"), 
+						testClientId))
+						));
+
+		// when
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, null, "Flood", null, 0, 5);
+
+		// then
+		mockMvc.perform(post(API_LIST_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.list", hasSize(1)))
+				.andExpect(jsonPath("$.list[0].policyNumber").value("POL-RISK-001"));
+	}
+
+	@Test
+	@DisplayName("Test archive expired policies functionality")
+	void shouldArchiveExpiredPoliciesAndKeepThemReachableById() throws Exception {
+		// given
+		createPolicy("POL-ACTIVE-001");
+		UUID expiredId = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-EXPIRED-001")
+				.policyType("Health")
+				.startDate(LocalDate.now().minusYears(3))
+				.endDate(LocalDate.now().minusYears(2))
+				.coveredRisks(List.of("Medical"))
+				.client(clientRepository.findById(testClientId).orElseThrow())
+				.build()).getId();
+
+		// when
+		policyArchiveService.archiveExpiredPolicies();
+
+		// then
+		mockMvc.perform(post(API_LIST_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(
+						new PolicyPageableRequestDTO(null, null, null, null, null, 0, 5))))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.list", hasSize(1)))
+				.andExpect(jsonPath("$.list[0].policyNumber").value("POL-ACTIVE-001"));
+
+		mockMvc.perform(post(API_LIST_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(
+						new PolicyPageableRequestDTO(null, null, null, null, true, 0, 5))))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.list", hasSize(2)));
+
+		mockMvc.perform(get(API_POLICY_URL + "/" + expiredId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.policyNumber").value("POL-EXPIRED-001"));
+		assertThat(policyRepository.findById(expiredId))
+				.hasValueSatisfying(policy -> assertThat(policy.getVersion()).isEqualTo(1));
+	}
+
+	@Test
+	@DisplayName("Test update keeps expired policy archived functionality")
+	void shouldKeepExpiredPolicyArchivedOnUpdate() throws Exception {
+		// given
+		UUID expiredId = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-EXPIRED-002")
+				.policyType("Health")
+				.startDate(LocalDate.now().minusYears(3))
+				.endDate(LocalDate.now().minusYears(2))
+				.coveredRisks(List.of("Medical"))
+				.client(clientRepository.findById(testClientId).orElseThrow())
+				.build()).getId();
+		policyArchiveService.archiveExpiredPolicies();
+		UpdateInsurancePolicyRequestDTO expiredUpdate = new UpdateInsurancePolicyRequestDTO(
+				"Life",
+				LocalDate.now().minusYears(3),
+				LocalDate.now().minusYears(2),
+				List.of("Death"),
+				testClientId);
+		UpdateInsurancePolicyRequestDTO renewal = new UpdateInsurancePolicyRequestDTO(
+				"Life",
+				LocalDate.now(),
+				LocalDate.now().plusYears(1),
+				List.of("Death"),
+				testClientId);
+
+		// when
+		mockMvc.perform(put(API_POLICY_URL + "/" + expiredId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(expiredUpdate)))
+				.andExpect(status().isOk());
+
+		// then
+		assertThat(policyRepository.findById(expiredId))
+				.hasValueSatisfying(policy -> assertThat(policy.isArchived()).isTrue());
+
+		mockMvc.perform(put(API_POLICY_URL + "/" + expiredId)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(renewal)))
+				.andExpect(status().isOk());
+		assertThat(policyRepository.findById(expiredId))
+				.hasValueSatisfying(policy -> assertThat(policy.isArchived()).isFalse());
+	}
+
+	@Test
+	@DisplayName("Test policy number stays unique across partitions functionality")
+	void shouldRejectActivePolicyReusingArchivedNumber() throws Exception {
+		// given
+		Client client = clientRepository.findById(testClientId).orElseThrow();
+		policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-UNIQUE-001")
+				.policyType("Health")
+				.startDate(LocalDate.now().minusYears(3))
+				.endDate(LocalDate.now().minusYears(2))
+				.coveredRisks(List.of("Medical"))
+				.client(client)
+				.build());
+		policyArchiveService.archiveExpiredPolicies();
+
+		// when
+		// then
+		assertThatThrownBy(() -> policyRepository.saveAndFlush(InsurancePolicy.builder()
+				.policyNumber("POL-UNIQUE-001")
+				.policyType("Health")
+				.startDate(LocalDate.now().plusDays(1))
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(List.of("Medical"))
+				.client(client)
+				.build()))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
 	@Test
 	@DisplayName("Test generate CSV report functionality")
 	void shouldGenerateCsvReport() throws Exception {
@@ -471,7 +782,7 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 						)).andExpect(status().isCreated());
 
 		// when
-		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, null, 0, 5);
+		PolicyPageableRequestDTO request = new PolicyPageableRequestDTO(null, null, null, null, null, 0, 5);
 
 		// then
 		byte [] reportContent = mockMvc.perform(post(API_REPORT_POLICY_URL)
@@ -495,6 +806,307 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 		assertThat(csvString).contains("testclient@example.com");
 	}
 
+	@Test
+	@DisplayName("Test bulk create, update and delete functionality")
+	void shouldApplyMixedBulkOperations() throws Exception {
+		// given
+		UUID toUpdateId = createPolicy("POL-BULK-001");
+		UUID toDeleteId = createPolicy("POL-BULK-002");
+
+		List<BulkPolicyOperationDTO> operations = List.of(
+				new BulkPolicyOperationDTO(BulkOperationType.CREATE, null, new CreateInsurancePolicyRequestDTO(
+						"POL-BULK-003", 
+						"Auto", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Collision"), 
+						testClientId), null),
+				new BulkPolicyOperationDTO(BulkOperationType.CREATE, null, new CreateInsurancePolicyRequestDTO(
+						"POL-BULK-001", 
+						"Auto", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Collision"), 
+						testClientId), null),
+				new BulkPolicyOperationDTO(BulkOperationType.UPDATE, toUpdateId, null,
+						new UpdateInsurancePolicyRequestDTO(
+								"Life Premium", 
+								LocalDate.now().plusDays(2), 
+								LocalDate.now().plusYears(2),
+								List.of("Death", "Disability"), 
+								testClientId)),
+				new BulkPolicyOperationDTO(BulkOperationType.DELETE, toDeleteId, null, null),
+				new BulkPolicyOperationDTO(BulkOperationType.DELETE, UUID.randomUUID(), null, null));
+
+		// when
+		mockMvc.perform(post(API_BULK_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new BulkPolicyRequestDTO(operations))))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.successCount").value(3))
+				.andExpect(jsonPath("$.failureCount").value(2))
+				.andExpect(jsonPath("$.results[*].status", contains(201, 409, 200, 204, 404)));
+
+		// then
+		assertThat(policyRepository.existsByPolicyNumber("POL-BULK-003")).isTrue();
+		assertThat(policyRepository.existsById(toDeleteId)).isFalse();
+		mockMvc.perform(get(API_POLICY_URL + "/" + toUpdateId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.policyType").value("Life Premium"))
+				.andExpect(jsonPath("$.coveredRisks", containsInAnyOrder("Death", "Disability")));
+	}
+
+	@Test
+	@DisplayName("Test reject empty bulk request functionality")
+	void shouldRejectEmptyBulkRequest() throws Exception {
+		mockMvc.perform(post(API_BULK_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new BulkPolicyRequestDTO(List.of()))))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.validationErrors.operations").exists());
+	}
+
+	@Test
+	@DisplayName("Test upsert policy by number functionality")
+	void shouldCreateThenUpdatePolicyByNumber() throws Exception {
+		// given
+		UpdateInsurancePolicyRequestDTO request = new UpdateInsurancePolicyRequestDTO(
+				"Health",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1),
+				List.of("Medical"),
+				testClientId);
+		UpdateInsurancePolicyRequestDTO changed = new UpdateInsurancePolicyRequestDTO(
+				"Life",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(2),
+				List.of("Death", "Disability"),
+				testClientId);
+
+		// when
+		String created = mockMvc.perform(put(API_UPSERT_POLICY_URL + "/POL-UPS-001")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated())
+				.andExpect(jsonPath("$.policyNumber").value("POL-UPS-001"))
+				.andReturn().getResponse().getContentAsString();
+		String policyId = objectMapper.readTree(created).get("id").asText();
+
+		mockMvc.perform(put(API_UPSERT_POLICY_URL + "/POL-UPS-001")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(changed)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(policyId))
+				.andExpect(jsonPath("$.policyType").value("Life"));
+		mockMvc.perform(put(API_UPSERT_POLICY_URL + "/POL-UPS-001")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(changed)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(policyId));
+
+		// then
+		mockMvc.perform(get(API_POLICY_URL + "/" + policyId))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.policyType").value("Life"))
+				.andExpect(jsonPath("$.coveredRisks", containsInAnyOrder("Death", "Disability")));
+		List<OutboxMessage> events = outboxRepository.findAllByTopicAndMessageKeyOrderById(domainEventTopic,
+				policyId);
+		assertThat(events)
+				.extracting(event -> event.getPayload().get("type").asText())
+				.containsExactly("POLICY_CREATED", "POLICY_UPDATED");
+		assertThat(events)
+				.extracting(event -> event.getPayload().get("version").asLong())
+				.containsExactly(0L, 1L);
+	}
+
+	@Test
+	@DisplayName("Test batch upsert policies by number functionality")
+	void shouldUpsertPolicyBatchByNumber() throws Exception {
+		// given
+		UUID existingId = createPolicy("POL-UPS-010");
+		UUID unchangedId = createPolicy("POL-UPS-011");
+		List<CreateInsurancePolicyRequestDTO> policies = List.of(
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-010", 
+						"Auto", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Collision"), 
+						testClientId),
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-011", 
+						"Health", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Medical"), 
+						testClientId),
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-012", 
+						"Travel", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Luggage"), 
+						testClientId));
+
+		// when
+		mockMvc.perform(put(API_UPSERT_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new PolicyUpsertBatchRequestDTO(policies))))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.createdCount").value(1))
+				.andExpect(jsonPath("$.updatedCount").value(1))
+				.andExpect(jsonPath("$.unchangedCount").value(1))
+				.andExpect(jsonPath("$.results[*].outcome", contains("UPDATED", "UNCHANGED", "CREATED")))
+				.andExpect(jsonPath("$.results[0].id").value(existingId.toString()))
+				.andExpect(jsonPath("$.results[1].id").value(unchangedId.toString()))
+				.andExpect(jsonPath("$.results[*].version", contains(1, 0, 0)));
+
+		// then
+		assertThat(policyRepository.count()).isEqualTo(3);
+		assertThat(policyRepository.findById(existingId)).get()
+				.extracting(InsurancePolicy::getPolicyType)
+				.isEqualTo("Auto");
+	}
+
+	@Test
+	@DisplayName("Test batch upsert of archived and repeated numbers functionality")
+	void shouldUpsertBatchWithArchivedAndRepeatedNumbers() throws Exception {
+		// given
+		UUID archivedId = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-UPS-020")
+				.policyType("Health")
+				.startDate(LocalDate.now().minusYears(3))
+				.endDate(LocalDate.now().minusYears(2))
+				.coveredRisks(List.of("Medical"))
+				.client(clientRepository.findById(testClientId).orElseThrow())
+				.build()).getId();
+		policyArchiveService.archiveExpiredPolicies();
+		List<CreateInsurancePolicyRequestDTO> policies = List.of(
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-020", 
+						"Health", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Medical"), 
+						testClientId),
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-021", 
+						"Travel", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Luggage"), 
+						testClientId),
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-021", 
+						"Auto", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Collision"), 
+						testClientId));
+
+		// when
+		mockMvc.perform(put(API_UPSERT_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new PolicyUpsertBatchRequestDTO(policies))))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.results[*].outcome", contains("UPDATED", "CREATED", "UPDATED")))
+				.andExpect(jsonPath("$.results[0].id").value(archivedId.toString()))
+				.andExpect(jsonPath("$.results[*].version", contains(2, 0, 1)));
+
+		// then
+		assertThat(policyRepository.count()).isEqualTo(2);
+		assertThat(policyRepository.findById(archivedId))
+				.hasValueSatisfying(policy -> assertThat(policy.isArchived()).isFalse());
+	}
+
+	@Test
+	@DisplayName("Test batch upsert with unknown client is rolled back functionality")
+	void shouldRejectPolicyBatchWithUnknownClient() throws Exception {
+		// given
+		List<CreateInsurancePolicyRequestDTO> policies = List.of(
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-020", 
+						"Auto", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Collision"), 
+						testClientId),
+				new CreateInsurancePolicyRequestDTO(
+						"POL-UPS-021", 
+						"Auto", 
+						LocalDate.now().plusDays(1), 
+						LocalDate.now().plusYears(1),
+						List.of("Collision"), 
+						UUID.randomUUID()));
+
+		// when
+		// then
+		mockMvc.perform(put(API_UPSERT_POLICY_URL)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(new PolicyUpsertBatchRequestDTO(policies))))
+				.andExpect(status().isNotFound());
+		assertThat(policyRepository.existsByPolicyNumber("POL-UPS-020")).isFalse();
+	}
+
+	@Test
+	@DisplayName("Test upsert of archived policy number restores it functionality")
+	void shouldUnarchivePolicyWhenUpsertingArchivedNumber() throws Exception {
+		// given
+		UUID archivedId = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-UPS-030")
+				.policyType("Health")
+				.startDate(LocalDate.now().minusYears(3))
+				.endDate(LocalDate.now().minusYears(2))
+				.coveredRisks(List.of("Medical"))
+				.client(clientRepository.findById(testClientId).orElseThrow())
+				.build()).getId();
+		policyArchiveService.archiveExpiredPolicies();
+		UpdateInsurancePolicyRequestDTO request = new UpdateInsurancePolicyRequestDTO(
+				"Health",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1),
+				List.of("Medical"),
+				testClientId);
+
+		// when
+		mockMvc.perform(put(API_UPSERT_POLICY_URL + "/POL-UPS-030")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id").value(archivedId.toString()));
+
+		// then
+		assertThat(policyRepository.count()).isEqualTo(1);
+		InsurancePolicy restored = policyRepository.findById(archivedId).orElseThrow();
+		assertThat(restored.isArchived()).isFalse();
+		assertThat(restored.getEndDate()).isEqualTo(request.endDate());
+		List<OutboxMessage> events = outboxRepository.findAllByTopicAndMessageKeyOrderById(domainEventTopic,
+				archivedId.toString());
+		assertThat(events.getLast().getPayload().get("type").asText()).isEqualTo("POLICY_UPDATED");
+		assertThat(events.getLast().getPayload().get("version").asLong()).isEqualTo(restored.getVersion());
+	}
+
+	@Test
+	@DisplayName("Test reject upsert with too long policy number functionality")
+	void shouldRejectUpsertWithTooLongPolicyNumber() throws Exception {
+		// given
+		UpdateInsurancePolicyRequestDTO request = new UpdateInsurancePolicyRequestDTO(
+				"Health",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1),
+				List.of("Medical"),
+				testClientId);
+
+		// when
+		// then
+		mockMvc.perform(put(API_UPSERT_POLICY_URL + "/" + "P".repeat(101))
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.validationErrors.policyNumber").exists());
+		assertThat(policyRepository.count()).isZero();
+	}
+
 	@ParameterizedTest(name = "File: {0} -> Expected Success: {1}, Fail: {2}")
 	@CsvSource({ "/upload/expected/valid.json, 2, 0", 
 		"/upload/expected/mixed.json,  1, 2", 
@@ -524,6 +1136,25 @@ class InsurancePolicyControllerTest extends BaseIntegrationTest {
 				Arguments.of(today.plusDays(5), today.plusDays(5), "end equals start"));
 	}
 
+	private UUID createPolicy(String policyNumber) throws Exception {
+		CreateInsurancePolicyRequestDTO request = new CreateInsurancePolicyRequestDTO(
+				policyNumber, 
+				"Health",
+				LocalDate.now().plusDays(1), 
+				LocalDate.now().plusYears(1), 
+				List.of("Medical"), 
+				testClientId);
+
+		String response = mockMvc
+				.perform(post(API_POLICY_URL)
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(objectMapper.writeValueAsString(request)))
+				.andExpect(status().isCreated())
+				.andReturn().getResponse().getContentAsString();
+
+		return UUID.fromString(objectMapper.readTree(response).get("id").asText());
+	}
+
 	private String readResourceFile(String path) {
 		try {
 			return new String(new ClassPathResource(path).getInputStream().readAllBytes(), StandardCharsets.UTF_8);
@@ -0,0 +1,176 @@
+package com.pohribnyi.insurance.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.dto.request.PolicyPageableRequestDTO;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+
+@DisplayName("Reactive Read Controller Integration Tests")
+class ReactiveReadControllerTest extends BaseIntegrationTest {
+
+	private static final String API_REACTIVE_URL = "/api/reactive";
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	private Client client;
+
+	private InsurancePolicy policy;
+
+	@BeforeEach
+	void setUp() {
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+
+		client = clientRepository.save(Client.builder()
+				.firstName("Reactive")
+				.lastName("Reader")
+				.email("reactive@example.com")
+				.build());
+		policy = policyRepository.save(InsurancePolicy.builder()
+				.policyNumber("POL-R2DBC-001")
+				.policyType("Health")
+				.startDate(LocalDate.now())
+				.endDate(LocalDate.now().plusYears(1))
+				.coveredRisks(List.of("Medical", "Dental"))
+				.client(client)
+				.build());
+	}
+
+	@Test
+	@DisplayName("Test reactive policy by ID matches blocking response functionality")
+	void shouldReturnSamePolicyAsBlockingEndpoint() throws Exception {
+		// when
+		JsonNode blocking = readJson(get("/api/insurance_policy/" + policy.getId()));
+		JsonNode reactive = readAsyncJson(get(API_REACTIVE_URL + "/insurance_policy/" + policy.getId()));
+
+		// then
+		assertThat(reactive).isEqualTo(blocking);
+	}
+
+	@Test
+	@DisplayName("Test reactive policy list matches blocking response functionality")
+	void shouldReturnSamePolicyListAsBlockingEndpoint() throws Exception {
+		// given
+		String request = objectMapper.writeValueAsString(
+				new PolicyPageableRequestDTO(client.getId(), null, null, "Dental", null, 0, 5));
+
+		// when
+		JsonNode blocking = readJson(post("/api/insurance_policy/_list")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(request));
+		JsonNode reactive = readAsyncJson(post(API_REACTIVE_URL + "/insurance_policy/_list")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(request));
+
+		// then
+		assertThat(reactive).isEqualTo(blocking);
+		assertThat(reactive.get("list")).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("Test reactive policy page matches blocking page across several pages functionality")
+	void shouldReturnSamePolicyPageAsBlockingEndpoint() throws Exception {
+		// given
+		for (int i = 2; i <= 7; i++) {
+			policyRepository.save(InsurancePolicy.builder()
+					.policyNumber("POL-R2DBC-00" + i)
+					.policyType("Health")
+					.startDate(LocalDate.now())
+					.endDate(LocalDate.now().plusYears(1))
+					.coveredRisks(List.of("Medical"))
+					.client(client)
+					.build());
+		}
+		String request = objectMapper.writeValueAsString(
+				new PolicyPageableRequestDTO(client.getId(), null, null, null, null, 1, 3));
+
+		// when
+		JsonNode blocking = readJson(post("/api/insurance_policy/_list")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(request));
+		JsonNode reactive = readAsyncJson(post(API_REACTIVE_URL + "/insurance_policy/_list")
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(request));
+
+		// then
+		assertThat(reactive).isEqualTo(blocking);
+		assertThat(reactive.get("list")).hasSize(3);
+	}
+
+	@Test
+	@DisplayName("Test reactive client lookups match blocking responses functionality")
+	void shouldReturnSameClientsAsBlockingEndpoints() throws Exception {
+		// when
+		JsonNode blockingClient = readJson(get("/api/client/" + client.getId()));
+		JsonNode reactiveClient = readAsyncJson(get(API_REACTIVE_URL + "/client/" + client.getId()));
+		JsonNode blockingList = readJson(get("/api/client").param("lastName", "read"));
+		JsonNode reactiveList = readAsyncJson(get(API_REACTIVE_URL + "/client").param("lastName", "read"));
+
+		// then
+		assertThat(reactiveClient).isEqualTo(blockingClient);
+		assertThat(reactiveList).isEqualTo(blockingList);
+	}
+
+	@Test
+	@DisplayName("Test reactive 404 code for not-existed policy functionality")
+	void shouldReturn404ForNotExistedPolicy() throws Exception {
+		// when
+		MvcResult result = mockMvc.perform(get(API_REACTIVE_URL + "/insurance_policy/" + client.getId()))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		// then
+		mockMvc.perform(asyncDispatch(result)).andExpect(status().isNotFound());
+	}
+
+	private JsonNode readJson(RequestBuilder request) throws Exception {
+		String body = mockMvc.perform(request)
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body);
+	}
+
+	private JsonNode readAsyncJson(RequestBuilder request) throws Exception {
+		MvcResult result = mockMvc.perform(request)
+				.andExpect(request().asyncStarted())
+				.andReturn();
+		String body = mockMvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andReturn().getResponse().getContentAsString();
+		return objectMapper.readTree(body);
+	}
+
+}
@@ -0,0 +1,160 @@
+package com.pohribnyi.insurance.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.SendResult;
+
+import com.pohribnyi.insurance.util.exception.PublishBackpressureException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Kafka Message Publisher Tests")
+class KafkaMessagePublisherTest {
+
+    private KafkaOperations<String, Object> kafkaOperations;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        kafkaOperations = mock(KafkaOperations.class);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("Test publish is rejected when no permit frees up in time functionality")
+    void shouldRejectWhenPermitsRunOut() {
+        // given
+        KafkaMessagePublisher publisher = publisher(1, Duration.ofMillis(50));
+        when(kafkaOperations.send(anyString(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        publisher.publish("events", "key-1", "first");
+
+        // when
+        CompletableFuture<SendResult<String, Object>> rejected = publisher.publish("events", "key-2", "second");
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(rejected.exceptionNow()).isInstanceOf(PublishBackpressureException.class);
+        verify(kafkaOperations, times(1)).send(anyString(), anyString(), any());
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(inFlight()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test publish waits for a permit freed by an acknowledgement functionality")
+    void shouldWaitForPermitUntilEarlierSendCompletes() throws Exception {
+        // given
+        KafkaMessagePublisher publisher = publisher(1, Duration.ofSeconds(5));
+        CompletableFuture<SendResult<String, Object>> pending = new CompletableFuture<>();
+        when(kafkaOperations.send("events", "key-1", "first")).thenReturn(pending);
+        when(kafkaOperations.send("events", "key-2", "second"))
+                .thenReturn(CompletableFuture.completedFuture(sendResult()));
+        publisher.publish("events", "key-1", "first");
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // when
+            Future<CompletableFuture<SendResult<String, Object>>> waiting =
+                    executor.submit(() -> publisher.publish("events", "key-2", "second"));
+            Thread.sleep(100);
+            assertThat(waiting).isNotDone();
+            pending.complete(sendResult());
+
+            // then
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isCompleted();
+        }
+        assertThat(count("success")).isEqualTo(2);
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test permit is released after success and failure functionality")
+    void shouldReleasePermitOnSuccessAndFailure() {
+        // given
+        KafkaMessagePublisher publisher = publisher(1, Duration.ofMillis(50));
+        when(kafkaOperations.send("events", "key-1", "ok"))
+                .thenReturn(CompletableFuture.completedFuture(sendResult()));
+        when(kafkaOperations.send("events", "key-2", "nack"))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")));
+        when(kafkaOperations.send("events", "key-3", "throws")).thenThrow(new KafkaException("serializer"));
+
+        // when
+        CompletableFuture<SendResult<String, Object>> success = publisher.publish("events", "key-1", "ok");
+        CompletableFuture<SendResult<String, Object>> failure = publisher.publish("events", "key-2", "nack");
+        CompletableFuture<SendResult<String, Object>> thrown = publisher.publish("events", "key-3", "throws");
+        CompletableFuture<SendResult<String, Object>> after = publisher.publish("events", "key-1", "ok");
+
+        // then
+        assertThat(success).isCompleted();
+        assertThat(failure).isCompletedExceptionally();
+        assertThat(thrown).isCompletedExceptionally();
+        assertThat(after).isCompleted();
+        assertThat(count("success")).isEqualTo(2);
+        assertThat(count("failure")).isEqualTo(2);
+        assertThat(count("rejected")).isZero();
+        assertThat(inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Test metrics are tagged by topic and result functionality")
+    void shouldTagMetricsByTopicAndResult() {
+        // given
+        KafkaMessagePublisher publisher = publisher(10, Duration.ofMillis(50));
+        when(kafkaOperations.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.completedFuture(sendResult()));
+
+        // when
+        publisher.publish("events", "key-1", "first");
+        publisher.publish("events", "key-2", "second");
+        publisher.publish("notifications", "key-3", "third");
+
+        // then
+        assertThat(meterRegistry.get("app.kafka.publish").tag("topic", "events").tag("result", "success")
+                .counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("app.kafka.publish").tag("topic", "notifications").tag("result", "success")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.kafka.publish.latency").tag("topic", "events").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("app.kafka.publish.latency").tag("topic", "notifications").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("app.kafka.publish.latency").timers()).hasSize(2);
+    }
+
+    private KafkaMessagePublisher publisher(int maxInFlight, Duration acquireTimeout) {
+        return new KafkaMessagePublisher(kafkaOperations, meterRegistry, maxInFlight, acquireTimeout);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static SendResult<String, Object> sendResult() {
+        return mock(SendResult.class);
+    }
+
+    private double count(String result) {
+        return meterRegistry.find("app.kafka.publish").tag("result", result).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("app.kafka.publish.in-flight").gauge().value();
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.pohribnyi.insurance.messaging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.kafka.KafkaException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.pohribnyi.insurance.model.entity.OutboxMessage;
+import com.pohribnyi.insurance.repository.OutboxRepository;
+
+@DisplayName("Outbox Relay Tests")
+class OutboxRelayTest {
+
+    private OutboxRepository outboxRepository;
+    private KafkaMessagePublisher publisher;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(OutboxRepository.class);
+        publisher = mock(KafkaMessagePublisher.class);
+        relay = new OutboxRelay(outboxRepository, publisher, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "sendTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(relay, "maxBackoff", Duration.ofMinutes(5));
+        when(outboxRepository.tryAdvisoryXactLock(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("Test later message of a key is not sent after an earlier one fails functionality")
+    @SuppressWarnings("unchecked")
+    void shouldStopKeyAtFirstFailure() {
+        // given
+        OutboxMessage first = message("policy-1");
+        OutboxMessage second = message("policy-1");
+        OutboxMessage other = message("policy-2");
+        when(outboxRepository.findDue(any(), anyInt())).thenReturn(List.of(first, second, other));
+        when(publisher.publish(eq("events"), eq("policy-1"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new KafkaException("broker down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        when(publisher.publish(eq("events"), eq("policy-2"), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(publisher).publish("events", "policy-1", first.getPayload());
+        verify(publisher, never()).publish("events", "policy-1", second.getPayload());
+        ArgumentCaptor<List<OutboxMessage>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(other);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getLastError()).contains("broker down");
+        assertThat(second.getAttempts()).isZero();
+        assertThat(second.getLastError()).isNull();
+    }
+
+    @Test
+    @DisplayName("Test messages of a key are sent one after another in order functionality")
+    @SuppressWarnings("unchecked")
+    void shouldSendMessagesOfKeyInOrder() {
+        // given
+        OutboxMessage first = message("policy-1");
+        OutboxMessage second = message("policy-1");
+        when(outboxRepository.findDue(any(), anyInt())).thenReturn(List.of(first, second));
+        when(publisher.publish(eq("events"), eq("policy-1"), any()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        relay.relay();
+
+        // then
+        InOrder inOrder = inOrder(publisher);
+        inOrder.verify(publisher).publish("events", "policy-1", first.getPayload());
+        inOrder.verify(publisher).publish("events", "policy-1", second.getPayload());
+        ArgumentCaptor<List<OutboxMessage>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(outboxRepository).deleteAllInBatch(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(first, second);
+    }
+
+    private OutboxMessage message(String key) {
+        return OutboxMessage.builder()
+                .id(UUID.randomUUID())
+                .topic("events")
+                .messageKey(key)
+                .payload(JsonNodeFactory.instance.textNode(UUID.randomUUID().toString()))
+                .build();
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.pohribnyi.insurance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import com.pohribnyi.insurance.util.exception.IdempotencyKeyConflictException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Idempotency Service Tests")
+class IdempotencyServiceTest {
+
+	private static final Instant NOW = Instant.parse("2026-10-19T12:00:00Z");
+
+	private SimpleMeterRegistry meterRegistry;
+	private IdempotencyService idempotencyService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		idempotencyService = new IdempotencyService(Duration.ofHours(1), 2, Clock.fixed(NOW, ZoneOffset.UTC),
+				meterRegistry);
+	}
+
+	@Test
+	@DisplayName("Test retry while the original request is in flight is rejected functionality")
+	void shouldRejectRetryWhileOriginalIsInFlight() {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+
+		// when
+		ResponseEntity<String> response = idempotencyService.execute("client", "key", "request", () -> {
+			executions.incrementAndGet();
+			assertThatThrownBy(() -> idempotencyService.execute("client", "key", "request", () -> {
+				executions.incrementAndGet();
+				return ResponseEntity.ok("retry");
+			})).isInstanceOf(IdempotencyKeyConflictException.class);
+			return ResponseEntity.ok("original");
+		});
+
+		// then
+		assertThat(response.getBody()).isEqualTo("original");
+		assertThat(executions).hasValue(1);
+		assertThat(count("in_flight")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test store evicts the oldest key beyond max entries functionality")
+	void shouldEvictOldestKeyBeyondMaxEntries() {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+		for (String key : new String[] { "first", "second", "third" }) {
+			idempotencyService.execute("client", key, "request", () -> ResponseEntity.ok(key));
+		}
+
+		// when
+		ResponseEntity<String> second = idempotencyService.execute("client", "second", "request", () -> {
+			executions.incrementAndGet();
+			return ResponseEntity.ok("again");
+		});
+		ResponseEntity<String> first = idempotencyService.execute("client", "first", "request", () -> {
+			executions.incrementAndGet();
+			return ResponseEntity.ok("again");
+		});
+
+		// then
+		assertThat(second.getBody()).isEqualTo("second");
+		assertThat(second.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(first.getBody()).isEqualTo("again");
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("Test failed attempt is not remembered functionality")
+	void shouldForgetFailedAttempt() {
+		// given
+		AtomicInteger executions = new AtomicInteger();
+
+		// when
+		assertThatThrownBy(() -> idempotencyService.execute("client", "key", "request", () -> {
+			executions.incrementAndGet();
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+		ResponseEntity<String> response = idempotencyService.execute("client", "key", "request", () -> {
+			executions.incrementAndGet();
+			return ResponseEntity.ok("retried");
+		});
+
+		// then
+		assertThat(response.getBody()).isEqualTo("retried");
+		assertThat(executions).hasValue(2);
+	}
+
+	private double count(String result) {
+		return meterRegistry.get("app.idempotency.requests").tag("result", result).counter().count();
+	}
+
+}
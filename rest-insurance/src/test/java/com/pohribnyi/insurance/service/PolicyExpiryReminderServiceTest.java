@@ -0,0 +1,120 @@
+package com.pohribnyi.insurance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.pohribnyi.insurance.BaseIntegrationTest;
+import com.pohribnyi.insurance.model.entity.Client;
+import com.pohribnyi.insurance.model.entity.InsurancePolicy;
+import com.pohribnyi.insurance.repository.ClientRepository;
+import com.pohribnyi.insurance.repository.ExpiringPolicyView;
+import com.pohribnyi.insurance.repository.InsurancePolicyRepository;
+import com.pohribnyi.insurance.repository.PolicyExpiryReminderRepository;
+
+@DisplayName("Policy Expiry Reminder Service Integration Tests")
+class PolicyExpiryReminderServiceTest extends BaseIntegrationTest {
+
+	@Autowired
+	private PolicyExpiryReminderService reminderService;
+
+	@Autowired
+	private PolicyExpiryReminderRepository reminderRepository;
+
+	@Autowired
+	private InsurancePolicyRepository policyRepository;
+
+	@Autowired
+	private ClientRepository clientRepository;
+
+	@BeforeEach
+	void setUp() {
+		reminderRepository.deleteAll();
+		policyRepository.deleteAll();
+		clientRepository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("Test send one grouped reminder per client only once functionality")
+	@SuppressWarnings("unchecked")
+	void shouldSendGroupedRemindersOnlyOnce() {
+		// given
+		Client first = saveClient("first@example.com");
+		Client second = saveClient("second@example.com");
+		savePolicy("POL-EXP-001", first, LocalDate.now().plusDays(5));
+		savePolicy("POL-EXP-002", first, LocalDate.now().plusDays(10));
+		savePolicy("POL-EXP-003", second, LocalDate.now().plusDays(7));
+		savePolicy("POL-LATER-001", second, LocalDate.now().plusYears(1));
+
+		// when
+		reminderService.sendExpiryReminders();
+		reminderService.sendExpiryReminders();
+
+		// then
+		ArgumentCaptor<List<ExpiringPolicyView>> captor = ArgumentCaptor.forClass(List.class);
+		verify(emailNotificationProducer, times(2)).sendPolicyExpiryReminder(captor.capture());
+		assertThat(captor.getAllValues())
+				.extracting(policies -> policies.stream().map(ExpiringPolicyView::getPolicyNumber).toList())
+				.containsExactlyInAnyOrder(List.of("POL-EXP-001", "POL-EXP-002"), List.of("POL-EXP-003"));
+		assertThat(reminderRepository.count()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("Test client reminder is not split across batches functionality")
+	@SuppressWarnings("unchecked")
+	void shouldGroupClientPoliciesAcrossBatches() {
+		// given
+		Client first = saveClient("first@example.com");
+		Client second = saveClient("second@example.com");
+		savePolicy("POL-EXP-001", first, LocalDate.now().plusDays(5));
+		savePolicy("POL-EXP-002", second, LocalDate.now().plusDays(7));
+		savePolicy("POL-EXP-003", first, LocalDate.now().plusDays(20));
+		savePolicy("POL-EXP-004", second, LocalDate.now().plusDays(25));
+		ReflectionTestUtils.setField(reminderService, "batchSize", 1);
+
+		// when
+		try {
+			reminderService.sendExpiryReminders();
+		} finally {
+			ReflectionTestUtils.setField(reminderService, "batchSize", 500);
+		}
+
+		// then
+		ArgumentCaptor<List<ExpiringPolicyView>> captor = ArgumentCaptor.forClass(List.class);
+		verify(emailNotificationProducer, times(2)).sendPolicyExpiryReminder(captor.capture());
+		assertThat(captor.getAllValues())
+				.extracting(policies -> policies.stream().map(ExpiringPolicyView::getPolicyNumber).toList())
+				.containsExactlyInAnyOrder(List.of("POL-EXP-001", "POL-EXP-003"), List.of("POL-EXP-002", "POL-EXP-004"));
+		assertThat(reminderRepository.count()).isEqualTo(4);
+	}
+
+	private Client saveClient(String email) {
+		return clientRepository.save(Client.builder()
+				.firstName("Test")
+				.lastName("Client")
+				.email(email)
+				.build());
+	}
+
+	private void savePolicy(String policyNumber, Client client, LocalDate endDate) {
+		policyRepository.save(InsurancePolicy.builder()
+				.policyNumber(policyNumber)
+				.policyType("Health")
+				.startDate(LocalDate.now().minusYears(1))
+				.endDate(endDate)
+				.coveredRisks(List.of("Medical"))
+				.client(client)
+				.build());
+	}
+
+}
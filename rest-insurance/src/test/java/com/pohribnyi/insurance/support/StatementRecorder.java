@@ -0,0 +1,104 @@
+package com.pohribnyi.insurance.support;
+
+import static org.assertj.core.api.Assertions.fail;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.pohribnyi.insurance.util.sql.SqlFingerprint;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+/**
+ * Counts the JDBC statements executed while an action runs and fails the test when they
+ * exceed a declared budget. Attached to the application datasource proxy, so it sees every
+ * round trip (a JDBC batch counts once). Only statements run on the thread executing the
+ * action are counted, which for MockMvc is the request thread; scheduled jobs running at the
+ * same time are left out.
+ */
+public class StatementRecorder implements QueryExecutionListener {
+
+	// Looked up lazily: the datasource proxy is built from the listener beans, this one included
+	private final ObjectProvider<DataSource> dataSource;
+	private volatile Recording recording;
+
+	public StatementRecorder(ObjectProvider<DataSource> dataSource) {
+		this.dataSource = dataSource;
+	}
+
+	@FunctionalInterface
+	public interface Action {
+
+		void run() throws Exception;
+
+	}
+
+	public void expectAtMost(int maxStatements, String scenario, Action action) throws Exception {
+		List<String> statements = record(action);
+		if (statements.size() > maxStatements) {
+			fail("Expected at most %d statements for %s but %d were executed:%n%s", maxStatements, scenario,
+					statements.size(), describe(statements));
+		}
+	}
+
+	public List<String> record(Action action) throws Exception {
+		requireAttached();
+		Recording current = new Recording(Thread.currentThread(), new ConcurrentLinkedQueue<>());
+		recording = current;
+		try {
+			action.run();
+		} finally {
+			recording = null;
+		}
+		return List.copyOf(current.statements());
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+		Recording current = recording;
+		if (current != null && current.thread() == Thread.currentThread() && !queryInfoList.isEmpty()) {
+			current.statements().add(queryInfoList.stream()
+					.map(QueryInfo::getQuery)
+					.collect(Collectors.joining("; ")));
+		}
+	}
+
+	// Without the proxy nothing is recorded and every budget would pass
+	private void requireAttached() {
+		if (!(dataSource.getObject() instanceof ProxyDataSource proxy)
+				|| !proxy.getProxyConfig().getQueryListener().getListeners().contains(this)) {
+			fail("StatementRecorder is not attached to the application datasource, check app.sql.proxy.enabled");
+		}
+	}
+
+	// Grouped by fingerprint so that an N+1 shows up as one line with a large count
+	private static String describe(List<String> statements) {
+		Map<String, Long> counts = statements.stream()
+				.map(SqlFingerprint::of)
+				.collect(Collectors.groupingBy(Function.identity(), LinkedHashMap::new,
+						Collectors.counting()));
+		return counts.entrySet().stream()
+				.map(entry -> "  %3d x %s".formatted(entry.getValue(), entry.getKey()))
+				.collect(Collectors.joining(System.lineSeparator()));
+	}
+
+	private record Recording(Thread thread, Queue<String> statements) {
+	}
+
+}
@@ -0,0 +1,97 @@
+package com.pohribnyi.insurance.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pohribnyi.insurance.util.exception.BulkheadFullException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Bulkhead Tests")
+class BulkheadTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	@DisplayName("Test queued caller is admitted once a permit is released functionality")
+	void shouldAdmitQueuedCallerAfterRelease() throws Exception {
+		// given
+		Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(5), Duration.ofSeconds(10),
+				meterRegistry);
+		bulkhead.acquire();
+
+		try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+			// when
+			Future<?> waiting = executor.submit(bulkhead::acquire);
+			await().atMost(Duration.ofSeconds(5)).until(() -> gauge("app.bulkhead.queue.depth") == 1);
+			bulkhead.release();
+
+			// then
+			waiting.get(5, TimeUnit.SECONDS);
+		}
+		assertThat(gauge("app.bulkhead.queue.depth")).isZero();
+		assertThat(gauge("app.bulkhead.active")).isEqualTo(1);
+		assertThat(requests("admitted")).isEqualTo(1);
+		assertThat(requests("queued")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test caller is rejected at once when the queue is full functionality")
+	void shouldRejectWhenQueueIsFull() {
+		// given
+		Bulkhead bulkhead = new Bulkhead("test", 1, 0, Duration.ofSeconds(5), Duration.ofSeconds(10),
+				meterRegistry);
+		bulkhead.acquire();
+
+		// when
+		// then
+		assertThatThrownBy(bulkhead::acquire)
+				.isInstanceOfSatisfying(BulkheadFullException.class, ex -> {
+					assertThat(ex.isWaitedForPermit()).isFalse();
+					assertThat(ex.getRetryAfter()).isEqualTo(Duration.ofSeconds(10));
+				});
+		assertThat(requests("queue-full")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test queued caller gives up after the maximum wait functionality")
+	void shouldRejectWhenWaitTimesOut() {
+		// given
+		Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofMillis(50), Duration.ofSeconds(10),
+				meterRegistry);
+		bulkhead.acquire();
+
+		// when
+		// then
+		assertThatThrownBy(bulkhead::acquire)
+				.isInstanceOfSatisfying(BulkheadFullException.class,
+						ex -> assertThat(ex.isWaitedForPermit()).isTrue());
+		assertThat(requests("timeout")).isEqualTo(1);
+		assertThat(gauge("app.bulkhead.queue.depth")).isZero();
+	}
+
+	private double gauge(String name) {
+		return meterRegistry.get(name).tag("name", "test").gauge().value();
+	}
+
+	private double requests(String result) {
+		return meterRegistry.get("app.bulkhead.requests").tag("result", result).counter().count();
+	}
+
+}
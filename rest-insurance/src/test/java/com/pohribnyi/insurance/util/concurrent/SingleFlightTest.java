@@ -0,0 +1,127 @@
+package com.pohribnyi.insurance.util.concurrent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.pohribnyi.insurance.util.exception.ResourceNotFoundException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("Single Flight Tests")
+class SingleFlightTest {
+
+	private SimpleMeterRegistry meterRegistry;
+	private SingleFlight<String, Integer> singleFlight;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		singleFlight = new SingleFlight<>("test", Duration.ofSeconds(5), meterRegistry);
+	}
+
+	@Test
+	@DisplayName("Test concurrent lookups share one load functionality")
+	void shouldShareInFlightLoadBetweenConcurrentCallers() throws Exception {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+			// when
+			Future<Integer> leader = executor.submit(() -> singleFlight.load("key", () -> {
+				loads.incrementAndGet();
+				awaitQuietly(release);
+				return 42;
+			}));
+			await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() == 1);
+			Future<?>[] followers = new Future<?>[7];
+			for (int i = 0; i < followers.length; i++) {
+				followers[i] = executor.submit(() -> singleFlight.load("key", loads::incrementAndGet));
+			}
+			await().atMost(Duration.ofSeconds(5)).until(() -> waiting() == followers.length);
+			release.countDown();
+
+			// then
+			assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+			for (Future<?> follower : followers) {
+				assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+			}
+		}
+		assertThat(loads.get()).isEqualTo(1);
+		assertThat(collapsed()).isEqualTo(7);
+		assertThat(singleFlight.load("key", () -> 7)).isEqualTo(7);
+	}
+
+	@Test
+	@DisplayName("Test failed load is rethrown and not remembered functionality")
+	void shouldPropagateFailureAndLoadAgainAfterwards() {
+		// given
+		// when
+		// then
+		assertThatThrownBy(() -> singleFlight.load("missing", () -> {
+			throw new ResourceNotFoundException("not found");
+		})).isInstanceOf(ResourceNotFoundException.class);
+		assertThat(singleFlight.load("missing", () -> 1)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Test follower loads on its own when the leader is stuck functionality")
+	void shouldLoadIndependentlyAfterFollowerTimeout() throws Exception {
+		// given
+		SingleFlight<String, Integer> bounded = new SingleFlight<>("bounded", Duration.ofMillis(50), meterRegistry);
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicInteger loads = new AtomicInteger();
+
+		try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+			Future<Integer> leader = executor.submit(() -> bounded.load("key", () -> {
+				loads.incrementAndGet();
+				awaitQuietly(release);
+				return 1;
+			}));
+			await().atMost(Duration.ofSeconds(5)).until(() -> loads.get() == 1);
+
+			// when
+			Integer followerValue = bounded.load("key", () -> 2);
+
+			// then
+			assertThat(followerValue).isEqualTo(2);
+			assertThat(meterRegistry.get("app.single-flight.requests").tag("name", "bounded")
+					.tag("result", "timed-out").counter().count()).isEqualTo(1);
+			assertThat(meterRegistry.get("app.single-flight.requests").tag("name", "bounded")
+					.tag("result", "collapsed").counter().count()).isZero();
+			release.countDown();
+			assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+		}
+	}
+
+	private double collapsed() {
+		return meterRegistry.get("app.single-flight.requests").tag("name", "test").tag("result", "collapsed")
+				.counter().count();
+	}
+
+	private double waiting() {
+		return meterRegistry.get("app.single-flight.waiting").tag("name", "test").gauge().value();
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
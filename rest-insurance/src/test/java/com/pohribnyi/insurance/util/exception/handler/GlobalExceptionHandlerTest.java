@@ -0,0 +1,56 @@
+package com.pohribnyi.insurance.util.exception.handler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.pohribnyi.insurance.dto.response.ErrorResponseDTO;
+
+@DisplayName("Global Exception Handler Tests")
+class GlobalExceptionHandlerTest {
+
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+	@Test
+	@DisplayName("Test 409 code for duplicate policy number functionality")
+	void shouldMapPolicyNumberUniqueViolationToConflict() {
+		// given
+		DataIntegrityViolationException ex = violation("23505", "policy_numbers_pkey");
+
+		// when
+		ResponseEntity<ErrorResponseDTO> response = handler.handleDataIntegrityViolation(ex, new MockHttpServletRequest());
+
+		// then
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+	}
+
+	@Test
+	@DisplayName("Test 500 code for other integrity violations functionality")
+	void shouldNotMapOtherIntegrityViolationsToConflict() {
+		// given
+		DataIntegrityViolationException foreignKey = violation("23503", "fk_policy_client");
+		DataIntegrityViolationException notNull = violation("23502", null);
+
+		// when
+		// then
+		assertThat(handler.handleDataIntegrityViolation(foreignKey, new MockHttpServletRequest()).getStatusCode())
+				.isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+		assertThat(handler.handleDataIntegrityViolation(notNull, new MockHttpServletRequest()).getStatusCode())
+				.isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+
+	private DataIntegrityViolationException violation(String sqlState, String constraintName) {
+		SQLException sqlException = new SQLException("violation", sqlState);
+		return new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.pohribnyi.insurance.util.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SQL Fingerprint Tests")
+class SqlFingerprintTest {
+
+	@Test
+	@DisplayName("Test fingerprint strips literals and collapses IN-lists functionality")
+	void shouldNormalizeStatementIntoFingerprint() {
+		// given
+		String sql = """
+				/* load policies */ SELECT *
+				FROM insurance_policies
+				WHERE policy_number = 'POL-001' AND id IN (?, ?, ?) LIMIT 10""";
+
+		// when
+		String fingerprint = SqlFingerprint.of(sql);
+
+		// then
+		assertThat(fingerprint)
+				.isEqualTo("select * from insurance_policies where policy_number = ? and id in (?...) limit ?");
+		assertThat(SqlFingerprint.id(fingerprint))
+				.isEqualTo(SqlFingerprint.id(SqlFingerprint.of(sql.replace("POL-001", "POL-002"))));
+	}
+
+}